@@ -3,11 +3,13 @@ package com.ssafy.yammy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
 @SpringBootApplication
 @EnableScheduling // s3 고아 파일 방지 체크용
+@EnableAsync // 탈퇴 회원 콘텐츠 정리 등 백그라운드 작업
 public class YammyApplication {
 
     public static void main(String[] args) {
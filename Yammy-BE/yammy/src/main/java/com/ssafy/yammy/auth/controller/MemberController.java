@@ -25,19 +25,25 @@ public class MemberController {
 
     private final MemberService memberService;
 
+    private static final int MAX_SEARCH_SIZE = 50;
+
     /**
      * 회원 검색 (닉네임)
      */
     @GetMapping("/search")
-    @Operation(summary = "회원 검색", description = "닉네임으로 회원을 검색합니다.")
+    @Operation(summary = "회원 검색", description = "닉네임으로 회원을 검색합니다. (초성 검색 지원, 정확도순 페이징)")
     public ResponseEntity<List<MemberSearchResponse>> searchMembers(
             @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         Long currentMemberId = userDetails != null ? userDetails.getMemberId() : null;
-        log.info("[MemberController] GET /api/members/search - query: {}, currentMemberId: {}", query, currentMemberId);
+        log.info("[MemberController] GET /api/members/search - query: {}, page: {}, size: {}, currentMemberId: {}",
+                query, page, size, currentMemberId);
 
-        List<MemberSearchResponse> members = memberService.searchMembers(query, currentMemberId);
+        List<MemberSearchResponse> members = memberService.searchMembers(
+                query, currentMemberId, Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
         return ResponseEntity.ok(members);
     }
 
@@ -0,0 +1,46 @@
+package com.ssafy.yammy.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 팔로워/팔로잉/게시글 수 (비정규화 카운터)
+ * - 팔로우/언팔로우/게시글 작성/삭제 시 같은 트랜잭션에서 UPDATE 로 증감
+ * - 행은 가입 시 생성 (기존 회원은 서버 시작 시 MemberStatsBackfillInitializer 가 생성)
+ * - 그래도 행이 없으면 조회/증감 트랜잭션이 커밋된 뒤 원본 테이블 기준으로 생성하고, 매일 새벽 원본 기준으로 재계산
+ */
+@Entity
+@Table(name = "member_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberStats {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "follower_count", nullable = false)
+    @Builder.Default
+    private Long followerCount = 0L;
+
+    @Column(name = "following_count", nullable = false)
+    @Builder.Default
+    private Long followingCount = 0L;
+
+    @Column(name = "post_count", nullable = false)
+    @Builder.Default
+    private Long postCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static MemberStats empty(Long memberId) {
+        return MemberStats.builder()
+                .memberId(memberId)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,9 +46,33 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 카카오 ID로 삭제
     void deleteByKakaoId(String kakaoId);
 
-    // 닉네임으로 검색 (탈퇴하지 않은 회원만)
-    List<Member> findByNicknameContainingAndDeletedAtIsNull(String nickname);
+    // 닉네임으로 검색 (탈퇴하지 않은 회원만, 짧은 닉네임 순, 검색 인덱스 적재 전에만 사용)
+    // query 의 %, _, ! 는 '!' 로 이스케이프해서 전달 (MemberSearchIndex.escapeLike)
+    @Query("SELECT m.memberId FROM Member m WHERE m.nickname LIKE CONCAT('%', :query, '%') ESCAPE '!' AND m.deletedAt IS NULL " +
+            "ORDER BY LENGTH(m.nickname), m.nickname")
+    List<Long> searchIdsByNickname(@Param("query") String query, Pageable pageable);
+
+    // 탈퇴하지 않은 회원의 (회원 ID, 닉네임) 목록 (회원 ID 순, 검색 인덱스 적재용)
+    @Query("SELECT m.memberId, m.nickname FROM Member m WHERE m.deletedAt IS NULL AND m.memberId > :afterId ORDER BY m.memberId")
+    List<Object[]> findActiveNicknamesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 탈퇴 처리된 회원인지 확인 (탈퇴 회원 콘텐츠 정리 전 확인용)
+    @Query("SELECT COUNT(m) > 0 FROM Member m WHERE m.memberId = :memberId AND m.deletedAt IS NOT NULL")
+    boolean isWithdrawn(@Param("memberId") Long memberId);
+
+    // 탈퇴한 지 일정 시간이 지났는데 게시글/댓글/좋아요/팔로우가 남아있는 회원 ID (정리 재시도용)
+    @Query("SELECT m.memberId FROM Member m WHERE m.deletedAt IS NOT NULL AND m.deletedAt < :withdrawnBefore AND (" +
+            "EXISTS (SELECT 1 FROM Post p WHERE p.memberId = m.memberId) OR " +
+            "EXISTS (SELECT 1 FROM Comment c WHERE c.memberId = m.memberId) OR " +
+            "EXISTS (SELECT 1 FROM PostLike pl WHERE pl.memberId = m.memberId) OR " +
+            "EXISTS (SELECT 1 FROM CommentLike cl WHERE cl.memberId = m.memberId) OR " +
+            "EXISTS (SELECT 1 FROM Follow f WHERE f.followerId = m.memberId OR f.followingId = m.memberId))")
+    List<Long> findWithdrawnMemberIdsWithContent(@Param("withdrawnBefore") LocalDateTime withdrawnBefore);
 
     // 전체 회원 목록 조회 (탈퇴하지 않은 회원만, 페이징)
     Page<Member> findAllByDeletedAtIsNull(Pageable pageable);
+
+    // 탈퇴하지 않은 회원의 (회원 ID, 응원팀) 목록 (팔로우 추천 배치용)
+    @Query("SELECT m.memberId, m.team FROM Member m WHERE m.deletedAt IS NULL")
+    List<Object[]> findActiveMemberTeams();
 }
@@ -0,0 +1,93 @@
+package com.ssafy.yammy.auth.repository;
+
+import com.ssafy.yammy.auth.entity.MemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    // 원본 테이블 기준 (회원 ID, 팔로워 수, 팔로잉 수, 게시글 수)
+    String COUNT_FROM_SOURCE =
+            "SELECT m.member_id, " +
+            "(SELECT COUNT(*) FROM follow f WHERE f.following_id = m.member_id), " +
+            "(SELECT COUNT(*) FROM follow f WHERE f.follower_id = m.member_id), " +
+            "(SELECT COUNT(*) FROM post p WHERE p.member_id = m.member_id), " +
+            "NOW() " +
+            "FROM member m ";
+
+    // 카운터 행이 없는 회원의 값을 원본 테이블에서 계산 (조회 트랜잭션 안에서 바로 사용)
+    @Query(value = COUNT_FROM_SOURCE + "WHERE m.member_id IN (:memberIds)", nativeQuery = true)
+    List<Object[]> countFromSource(@Param("memberIds") Collection<Long> memberIds);
+
+    // 가입 시 빈 카운터 행 생성 (가입 트랜잭션에 참여, 원본 테이블을 읽지 않으므로 다른 행을 잠그지 않음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_stats (member_id, follower_count, following_count, post_count, updated_at) " +
+            "VALUES (:memberId, 0, 0, 0, NOW())", nativeQuery = true)
+    int createEmpty(@Param("memberId") Long memberId);
+
+    // 지정 회원의 카운터를 원본 테이블 기준으로 생성/재계산
+    // INSERT ... SELECT 는 원본 행을 잠그며 읽으므로, 쓰기 트랜잭션 안이 아니라 커밋 후에 별도 트랜잭션으로만 호출
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO member_stats (member_id, follower_count, following_count, post_count, updated_at) " +
+            COUNT_FROM_SOURCE + "WHERE m.member_id IN (:memberIds) " +
+            "ON DUPLICATE KEY UPDATE follower_count = VALUES(follower_count), following_count = VALUES(following_count), " +
+            "post_count = VALUES(post_count), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int recompute(@Param("memberIds") Collection<Long> memberIds);
+
+    // 카운터 행이 없는 기존 회원의 행 생성 (회원 ID 순으로 limit 건씩)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_stats (member_id, follower_count, following_count, post_count, updated_at) " +
+            COUNT_FROM_SOURCE + "WHERE NOT EXISTS (SELECT 1 FROM member_stats s WHERE s.member_id = m.member_id) " +
+            "ORDER BY m.member_id LIMIT :limit", nativeQuery = true)
+    int createMissing(@Param("limit") int limit);
+
+    // 원본 테이블 기준으로 재계산 (회원 ID 구간 단위)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_stats (member_id, follower_count, following_count, post_count, updated_at) " +
+            COUNT_FROM_SOURCE + "WHERE m.member_id > :fromId AND m.member_id <= :toId " +
+            "ON DUPLICATE KEY UPDATE follower_count = VALUES(follower_count), following_count = VALUES(following_count), " +
+            "post_count = VALUES(post_count), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int reconcile(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 증감 (행이 없으면 0건 → 호출한 쪽에서 커밋 후 recompute, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.followerCount = CASE WHEN s.followerCount + :delta < 0 THEN 0 ELSE s.followerCount + :delta END, " +
+            "s.updatedAt = CURRENT_TIMESTAMP WHERE s.memberId = :memberId")
+    int addFollowerCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.followingCount = CASE WHEN s.followingCount + :delta < 0 THEN 0 ELSE s.followingCount + :delta END, " +
+            "s.updatedAt = CURRENT_TIMESTAMP WHERE s.memberId = :memberId")
+    int addFollowingCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.postCount = CASE WHEN s.postCount + :delta < 0 THEN 0 ELSE s.postCount + :delta END, " +
+            "s.updatedAt = CURRENT_TIMESTAMP WHERE s.memberId = :memberId")
+    int addPostCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 탈퇴 회원과의 팔로우 관계가 지워지기 전에 상대방 카운터 차감
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.followingCount = CASE WHEN s.followingCount > 0 THEN s.followingCount - 1 ELSE 0 END " +
+            "WHERE s.memberId IN (SELECT f.followerId FROM Follow f WHERE f.followingId = :memberId)")
+    int decrementFollowingCountOfFollowers(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.followerCount = CASE WHEN s.followerCount > 0 THEN s.followerCount - 1 ELSE 0 END " +
+            "WHERE s.memberId IN (SELECT f.followingId FROM Follow f WHERE f.followerId = :memberId)")
+    int decrementFollowerCountOfFollowings(@Param("memberId") Long memberId);
+
+    @Query("SELECT MAX(m.memberId) FROM Member m")
+    Long findMaxMemberId();
+}
@@ -0,0 +1,45 @@
+package com.ssafy.yammy.auth.scheduler;
+
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.auth.service.MemberContentPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매일 새벽 4시 탈퇴 회원 콘텐츠 재정리
+ * 탈퇴 직후 비동기 정리가 실패했거나 서버 재시작으로 중단돼 남은 게시글/댓글/좋아요/팔로우를 이어서 정리
+ * (방금 탈퇴해 비동기 정리가 진행 중일 수 있는 회원은 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberContentPurgeScheduler {
+
+    private final MemberRepository memberRepository;
+    private final MemberContentPurgeService memberContentPurgeService;
+
+    @Value("${member.purge.sweep-min-age-minutes:60}")
+    private long minAgeMinutes;
+
+    @Scheduled(cron = "${member.purge.sweep-cron:0 0 4 * * *}")
+    public void sweep() {
+        try {
+            List<Long> memberIds = memberRepository.findWithdrawnMemberIdsWithContent(LocalDateTime.now().minusMinutes(minAgeMinutes));
+            if (memberIds.isEmpty()) {
+                return;
+            }
+
+            log.info("Scheduler - withdrawn member content sweep starting: {} members", memberIds.size());
+            memberIds.forEach(memberContentPurgeService::purge);
+            log.info("Scheduler - withdrawn member content sweep completed: {} members", memberIds.size());
+        } catch (Exception e) {
+            log.error("Scheduler - withdrawn member content sweep failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.yammy.auth.scheduler;
+
+import com.ssafy.yammy.auth.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 카운터 행(member_stats)이 없는 기존 회원의 행을 원본 테이블 기준으로 생성
+ * (가입 시 행을 만들기 이전에 가입한 회원 대상, 이미 모두 있으면 첫 INSERT 에서 바로 종료)
+ * - 한 번에 BATCH_SIZE 건씩 나눠 커밋해서 긴 트랜잭션/대량 잠금을 피함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberStatsBackfillInitializer {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final MemberStatsRepository memberStatsRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMemberStats() {
+        try {
+            int total = 0;
+            int created;
+            do {
+                created = memberStatsRepository.createMissing(BATCH_SIZE);
+                total += created;
+            } while (created == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Server startup - member_stats backfill completed: {} rows", total);
+            }
+        } catch (Exception e) {
+            log.error("Server startup - member_stats backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
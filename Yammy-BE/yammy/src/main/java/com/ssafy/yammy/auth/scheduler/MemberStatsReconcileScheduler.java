@@ -0,0 +1,43 @@
+package com.ssafy.yammy.auth.scheduler;
+
+import com.ssafy.yammy.auth.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 새벽 4시 30분 회원 카운터(member_stats) 재계산
+ * 증감 누락이나 일괄 삭제 등으로 어긋난 값을 follow/post 테이블 기준으로 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberStatsReconcileScheduler {
+
+    private final MemberStatsRepository memberStatsRepository;
+
+    private static final long CHUNK_SIZE = 1000;
+
+    @Scheduled(cron = "${member.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            log.info("Scheduler - member_stats reconciliation starting");
+
+            Long maxMemberId = memberStatsRepository.findMaxMemberId();
+            if (maxMemberId == null) {
+                return;
+            }
+
+            // 회원 ID 구간별로 나눠 짧은 트랜잭션으로 처리
+            int total = 0;
+            for (long fromId = 0; fromId < maxMemberId; fromId += CHUNK_SIZE) {
+                total += memberStatsRepository.reconcile(fromId, Math.min(fromId + CHUNK_SIZE, maxMemberId));
+            }
+
+            log.info("Scheduler - member_stats reconciliation completed: {} rows", total);
+        } catch (Exception e) {
+            log.error("Scheduler - member_stats reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
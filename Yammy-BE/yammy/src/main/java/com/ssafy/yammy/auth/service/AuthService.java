@@ -17,7 +17,10 @@ import com.ssafy.yammy.auth.dto.SignupResponse;
 import com.ssafy.yammy.auth.entity.Member;
 import com.ssafy.yammy.auth.repository.MemberRepository;
 import com.ssafy.yammy.auth.repository.RefreshTokenRepository;
+import com.ssafy.yammy.config.CustomUserDetailsService;
 import com.ssafy.yammy.config.JwtTokenProvider;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import com.ssafy.yammy.post.service.PostCardCacheService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +37,11 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final com.ssafy.yammy.payment.repository.PointRepository pointRepository;
+    private final PostCardCacheService postCardCacheService;
+    private final MemberContentPurgeService memberContentPurgeService;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberStatsService memberStatsService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     @Value("${jwt.refreshExpiration}")
     private long refreshExpiration;
@@ -72,6 +80,8 @@ public class AuthService {
             .build();
 
         memberRepository.save(member);
+        memberSearchIndex.onNicknameChanged(member.getMemberId(), member.getNickname());
+        memberStatsService.onMemberCreated(member.getMemberId());
 
         // Point 계좌 자동 생성
         com.ssafy.yammy.payment.entity.Point point = new com.ssafy.yammy.payment.entity.Point();
@@ -192,6 +202,7 @@ public class AuthService {
                 throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
             }
             member.setNickname(request.getNickname());
+            memberSearchIndex.onNicknameChanged(member.getMemberId(), request.getNickname());
         }
         if (request.getTeam() != null)
             member.setTeam(request.getTeam());
@@ -200,6 +211,10 @@ public class AuthService {
         if (request.getProfileImage() != null)
             member.setProfileImage(request.getProfileImage());
 
+        // 게시글 카드에 캐시된 작성자 정보 무효화
+        postCardCacheService.evictAuthor(member.getMemberId());
+        customUserDetailsService.evict(member.getMemberId());
+
         return new MemberUpdateResponse(
             member.getMemberId(),
             member.getId(),
@@ -233,9 +248,16 @@ public class AuthService {
 
         // Soft Delete: deletedAt에 현재 시각 설정
         member.setDeletedAt(LocalDateTime.now());
+        postCardCacheService.evictAuthor(member.getMemberId());
+        customUserDetailsService.evict(member.getMemberId());
+        memberSearchIndex.onMemberWithdrawn(member.getMemberId());
 
         // Refresh Token 삭제
         refreshTokenRepository.deleteByLoginId(loginId);
+
+        // 게시글/댓글/좋아요/팔로우 정리 (커밋 후 비동기, 청크 단위)
+        Long memberId = member.getMemberId();
+        TransactionCallbacks.runAfterCommit(() -> memberContentPurgeService.purgeAsync(memberId));
     }
 
     public MemberInfoResponse getMemberInfo(String loginId) {
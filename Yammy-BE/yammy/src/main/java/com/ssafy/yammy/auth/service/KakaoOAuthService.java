@@ -7,7 +7,10 @@ import com.ssafy.yammy.auth.dto.LoginResponse;
 import com.ssafy.yammy.auth.entity.Member;
 import com.ssafy.yammy.auth.repository.MemberRepository;
 import com.ssafy.yammy.auth.repository.RefreshTokenRepository;
+import com.ssafy.yammy.config.CustomUserDetailsService;
 import com.ssafy.yammy.config.JwtTokenProvider;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import com.ssafy.yammy.post.service.PostCardCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -30,6 +33,11 @@ public class KakaoOAuthService {
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenRepository refreshTokenRepository;
     private final com.ssafy.yammy.payment.repository.PointRepository pointRepository;
+    private final PostCardCacheService postCardCacheService;
+    private final MemberContentPurgeService memberContentPurgeService;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberStatsService memberStatsService;
+    private final CustomUserDetailsService customUserDetailsService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${jwt.refreshExpiration}")
@@ -190,6 +198,8 @@ public class KakaoOAuthService {
             member.setKakaoId(kakaoId);
             member.setIsSocial(true);
             member.setProfileImage(kakaoUser.getProfileImageUrl());
+            postCardCacheService.evictAuthor(member.getMemberId());
+            customUserDetailsService.evict(member.getMemberId());
             return memberRepository.save(member);
         }
 
@@ -214,6 +224,8 @@ public class KakaoOAuthService {
                 .build();
 
         Member savedMember = memberRepository.save(newMember);
+        memberSearchIndex.onNicknameChanged(savedMember.getMemberId(), savedMember.getNickname());
+        memberStatsService.onMemberCreated(savedMember.getMemberId());
 
         // Point 계좌 자동 생성
         com.ssafy.yammy.payment.entity.Point point = new com.ssafy.yammy.payment.entity.Point();
@@ -263,6 +275,9 @@ public class KakaoOAuthService {
             // 4. Soft Delete: deletedAt에 현재 시각 설정
             member.setDeletedAt(java.time.LocalDateTime.now());
             memberRepository.save(member);
+            postCardCacheService.evictAuthor(member.getMemberId());
+            customUserDetailsService.evict(member.getMemberId());
+            memberSearchIndex.onMemberWithdrawn(member.getMemberId());
 
             // 5. Refresh Token 삭제
             refreshTokenRepository.deleteByLoginId(member.getId());
@@ -275,6 +290,10 @@ public class KakaoOAuthService {
 
             restTemplate.exchange(KAKAO_UNLINK_URL, HttpMethod.POST, unlinkRequest, String.class);
 
+            // 7. 게시글/댓글/좋아요/팔로우 정리 (연결 끊기까지 성공하고 탈퇴가 커밋된 뒤 비동기로)
+            Long memberId = member.getMemberId();
+            TransactionCallbacks.runAfterCommit(() -> memberContentPurgeService.purgeAsync(memberId));
+
         } catch (Exception e) {
             throw new RuntimeException("카카오 회원 탈퇴 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
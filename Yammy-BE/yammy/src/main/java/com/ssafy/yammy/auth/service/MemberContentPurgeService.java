@@ -0,0 +1,224 @@
+package com.ssafy.yammy.auth.service;
+
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.comment.repository.CommentLikeRepository;
+import com.ssafy.yammy.comment.repository.CommentRepository;
+import com.ssafy.yammy.comment.service.CommentThreadCache;
+import com.ssafy.yammy.follow.repository.FollowRepository;
+import com.ssafy.yammy.follow.service.FollowGraphIndex;
+import com.ssafy.yammy.follow.service.FollowRecommendationService;
+import com.ssafy.yammy.post.repository.PostImageRepository;
+import com.ssafy.yammy.post.repository.PostLikeRepository;
+import com.ssafy.yammy.post.repository.PostRepository;
+import com.ssafy.yammy.post.service.FeedTimelineService;
+import com.ssafy.yammy.post.service.HotPostService;
+import com.ssafy.yammy.post.service.PostCardCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴 회원 콘텐츠 정리
+ * - 게시글/댓글/좋아요/팔로우를 청크 단위로 DELETE (엔티티를 메모리에 올리지 않음)
+ * - 청크마다 별도 트랜잭션이라 긴 락 없이 진행되고, 중간에 실패해도 다시 호출하면 이어서 정리됨
+ *   (탈퇴 직후 비동기로 한 번 실행하고, 남은 콘텐츠는 MemberContentPurgeScheduler 가 주기적으로 다시 정리)
+ * - 청크가 커밋될 때마다 타임라인/인기 랭킹/게시글 카드/댓글 캐시에서도 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberContentPurgeService {
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final FollowRepository followRepository;
+    private final MemberStatsService memberStatsService;
+    private final FollowGraphIndex followGraphIndex;
+    private final FollowRecommendationService followRecommendationService;
+    private final FeedTimelineService feedTimelineService;
+    private final HotPostService hotPostService;
+    private final PostCardCacheService postCardCacheService;
+    private final CommentThreadCache commentThreadCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int CHUNK_SIZE = 500;
+
+    // 이 서버에서 정리 중인 회원 (비동기 정리와 주기 정리가 겹치지 않도록)
+    private final Set<Long> purging = ConcurrentHashMap.newKeySet();
+
+    // 탈퇴 트랜잭션 커밋 후에 호출
+    @Async
+    public void purgeAsync(Long memberId) {
+        purge(memberId);
+    }
+
+    public void purge(Long memberId) {
+        // 탈퇴가 롤백됐거나 아직 커밋되지 않은 회원은 정리하지 않음
+        if (!memberRepository.isWithdrawn(memberId)) {
+            log.warn("[MemberContentPurgeService] 탈퇴 상태가 아닌 회원은 정리하지 않음: memberId={}", memberId);
+            return;
+        }
+        if (!purging.add(memberId)) {
+            return;
+        }
+
+        log.info("[MemberContentPurgeService] 탈퇴 회원 콘텐츠 정리 시작: memberId={}", memberId);
+        try {
+            int posts = purgePosts(memberId);
+            int comments = purgeComments(memberId);
+            int postLikes = purgePostLikes(memberId);
+            int commentLikes = purgeCommentLikes(memberId);
+            int follows = inTransaction(() -> {
+                memberStatsService.onMemberWithdrawn(memberId);
+                followGraphIndex.onMemberWithdrawn(memberId);
+                followRecommendationService.onMemberWithdrawn(memberId);
+                return followRepository.deleteAllByMemberId(memberId);
+            });
+
+            log.info("[MemberContentPurgeService] 탈퇴 회원 콘텐츠 정리 완료: memberId={}, posts={}, comments={}, postLikes={}, commentLikes={}, follows={}",
+                    memberId, posts, comments, postLikes, commentLikes, follows);
+        } catch (Exception e) {
+            log.error("[MemberContentPurgeService] 탈퇴 회원 콘텐츠 정리 실패: memberId={}, error={}", memberId, e.getMessage(), e);
+        } finally {
+            purging.remove(memberId);
+        }
+    }
+
+    // 회원 게시글과 딸린 댓글/좋아요/이미지 삭제
+    // 팔로우 삭제 전에 실행해야 팔로워 타임라인에서도 제거됨
+    private int purgePosts(Long memberId) {
+        int total = 0;
+        while (true) {
+            List<Long> postIds = inTransaction(() -> {
+                List<Long> ids = postRepository.findIdsByMemberId(memberId, PageRequest.of(0, CHUNK_SIZE));
+                if (ids.isEmpty()) {
+                    return ids;
+                }
+                commentLikeRepository.deleteByPostIdIn(ids);
+                commentRepository.deleteByPostIdIn(ids);
+                postLikeRepository.deleteByPostIdIn(ids);
+                postImageRepository.deleteByPostIdIn(ids);
+                postRepository.deleteAllByIdIn(ids);
+                return ids;
+            });
+            if (postIds.isEmpty()) {
+                return total;
+            }
+            total += postIds.size();
+
+            feedTimelineService.removeAll(memberId, postIds);
+            hotPostService.onPostsDeleted(postIds);
+            postIds.forEach(postId -> {
+                postCardCacheService.evictPost(postId);
+                commentThreadCache.evict(postId);
+            });
+        }
+    }
+
+    // 다른 게시글에 남긴 댓글 삭제 (게시글 댓글 수 차감)
+    // 직접 댓글 삭제와 같이 하위 답글(다른 회원 답글 포함)도 함께 삭제해, 부모 없는 답글이 댓글 수에만 남지 않도록 함
+    // 청크마다 하위 답글 조회 한 번 + 좋아요/댓글 DELETE 한 번씩으로 처리 (댓글 행마다 쿼리하지 않음)
+    private int purgeComments(Long memberId) {
+        int total = 0;
+        while (true) {
+            Map<Long, Long> countByPostId = inTransaction(() -> {
+                List<Object[]> rows = commentRepository.findIdPostIdAndPathByMemberIdForUpdate(memberId, CHUNK_SIZE);
+
+                // 삭제할 댓글 ID → 게시글 ID (같은 청크의 다른 댓글 하위 답글이면 한 번만 담김)
+                Map<Long, Long> postIdByCommentId = new HashMap<>();
+                List<Long> withPath = new ArrayList<>();
+                for (Object[] row : rows) {
+                    Long commentId = ((Number) row[0]).longValue();
+                    if (row[2] != null) {
+                        withPath.add(commentId);
+                    } else {
+                        // 경로가 없는 댓글은 답글 기능 이전의 최상위 댓글이라 하위 답글이 없음
+                        postIdByCommentId.put(commentId, ((Number) row[1]).longValue());
+                    }
+                }
+                if (!withPath.isEmpty()) {
+                    for (Object[] row : commentRepository.findSubtreeIdAndPostIdsForUpdate(withPath)) {
+                        postIdByCommentId.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+                    }
+                }
+
+                Map<Long, Long> counts = new HashMap<>();
+                if (postIdByCommentId.isEmpty()) {
+                    return counts;
+                }
+                List<Long> commentIds = new ArrayList<>(postIdByCommentId.keySet());
+                commentLikeRepository.deleteByCommentIdIn(commentIds);
+                commentRepository.deleteAllByIdIn(commentIds);
+                postIdByCommentId.values().forEach(postId -> counts.merge(postId, 1L, Long::sum));
+
+                // 차감량이 같은 게시글끼리 묶어 UPDATE (대부분 1건이라 UPDATE 몇 번으로 끝남)
+                counts.entrySet().stream()
+                        .collect(Collectors.groupingBy(Map.Entry::getValue,
+                                Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                        .forEach((count, postIds) -> postRepository.addCommentCounts(postIds, -count.intValue()));
+                return counts;
+            });
+            if (countByPostId.isEmpty()) {
+                return total;
+            }
+            total += countByPostId.values().stream().mapToInt(Long::intValue).sum();
+
+            countByPostId.keySet().forEach(commentThreadCache::evict);
+        }
+    }
+
+    // 게시글 좋아요 삭제 (게시글 좋아요 수 차감, 게시글당 1건이므로 UPDATE 한 번)
+    private int purgePostLikes(Long memberId) {
+        int total = 0;
+        while (true) {
+            int deleted = inTransaction(() -> {
+                List<Long> postIds = postLikeRepository.findPostIdsByMemberIdForUpdate(memberId, CHUNK_SIZE);
+                if (postIds.isEmpty()) {
+                    return 0;
+                }
+                postRepository.decrementLikeCounts(postIds);
+                return postLikeRepository.deleteByMemberIdAndPostIdIn(memberId, postIds);
+            });
+            if (deleted == 0) {
+                return total;
+            }
+            total += deleted;
+        }
+    }
+
+    // 댓글 좋아요 삭제 (댓글 좋아요 수 차감, 댓글당 1건이므로 UPDATE 한 번)
+    private int purgeCommentLikes(Long memberId) {
+        int total = 0;
+        while (true) {
+            int deleted = inTransaction(() -> {
+                List<Long> commentIds = commentLikeRepository.findCommentIdsByMemberIdForUpdate(memberId, CHUNK_SIZE);
+                if (commentIds.isEmpty()) {
+                    return 0;
+                }
+                commentRepository.decrementLikeCounts(commentIds);
+                return commentLikeRepository.deleteByMemberIdAndCommentIdIn(memberId, commentIds);
+            });
+            if (deleted == 0) {
+                return total;
+            }
+            total += deleted;
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+}
@@ -0,0 +1,355 @@
+package com.ssafy.yammy.auth.service;
+
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.global.util.ReplicatedIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 닉네임 검색 메모리 인덱스
+ * - 닉네임의 1~2글자 n-gram, 초성 n-gram 으로 역색인을 만들어 LIKE '%q%' 전체 스캔 없이 후보를 좁힌 뒤 확인
+ * - 초성만 입력하면("ㅇㅁ") 초성으로, 마지막 글자를 입력 중이면("야ㅁ", "얌") 자모 단위로 이어지는 닉네임까지 찾음
+ * - 정확히 일치 > 앞부분 일치 > 중간 일치, 같으면 짧은 닉네임 순으로 정렬해서 페이지 단위로 반환
+ * - 가입/닉네임 변경/탈퇴는 커밋 후 바로 반영하고 다른 서버에는 Pub/Sub 으로 전달, 유실 대비로 주기적으로 다시 적재
+ * - 적재 전이거나 적재에 실패하면 DB LIKE 검색으로 대체
+ */
+@Slf4j
+@Component
+public class MemberSearchIndex {
+
+    private final MemberRepository memberRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String EVENT_CHANNEL = "member:search:events";
+    private static final String UPSERT = "U";
+    private static final String REMOVE = "D";
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    // 역색인 키 구분 (닉네임 n-gram / 초성 n-gram / 받침을 뺀 음절)
+    private static final String GRAM = "g:";
+    private static final String CHOSUNG_GRAM = "c:";
+    private static final String SYLLABLE = "s:";
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JONGSUNG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 역색인 (적재/이벤트 동기화는 ReplicatedIndex)
+    private final ReplicatedIndex<Index> index;
+
+    public MemberSearchIndex(MemberRepository memberRepository, StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.memberRepository = memberRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.index = new ReplicatedIndex<>("MemberSearchIndex", EVENT_CHANNEL, stringRedisTemplate,
+                new Index(), this::load, this::apply);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        index.subscribe(redisMessageListenerContainer);
+    }
+
+    /**
+     * 닉네임 검색 (순위순 회원 ID, page 는 0부터)
+     */
+    public List<Long> search(String query, int page, int size) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (!index.isReady()) {
+            return memberRepository.searchIdsByNickname(escapeLike(query.trim()), PageRequest.of(page, size));
+        }
+
+        Index current = index.current();
+        boolean chosungOnly = isChosungOnly(normalized);
+
+        List<Match> matches = new ArrayList<>();
+        for (Long memberId : current.candidates(candidateKeys(normalized, chosungOnly))) {
+            String nickname = current.nicknames.get(memberId);
+            if (nickname == null) {
+                continue;
+            }
+            int position = chosungOnly
+                    ? toChosung(nickname).indexOf(normalized)
+                    : indexOf(nickname, normalized);
+            if (position >= 0) {
+                matches.add(new Match(memberId, nickname, position));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt((Match m) -> m.rank(normalized))
+                .thenComparingInt(m -> m.nickname.length())
+                .thenComparingInt(m -> m.position)
+                .thenComparing(m -> m.nickname)
+                .thenComparing(m -> m.memberId));
+
+        int from = (int) Math.min((long) page * size, matches.size());
+        int to = Math.min(from + size, matches.size());
+        return matches.subList(from, to).stream().map(m -> m.memberId).toList();
+    }
+
+    // 가입/닉네임 변경/탈퇴 반영 (트랜잭션 중이면 커밋 후)
+    public void onNicknameChanged(Long memberId, String nickname) {
+        index.publishAfterCommit(UPSERT, memberId, nickname);
+    }
+
+    public void onMemberWithdrawn(Long memberId) {
+        index.publishAfterCommit(REMOVE, memberId, "");
+    }
+
+    // 서버 시작 시 적재 + 주기적 재적재 (Pub/Sub 유실 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${member.search.reload-interval-ms:3600000}",
+            initialDelayString = "${member.search.reload-interval-ms:3600000}")
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        Index loaded = index.reload();
+        if (loaded != null) {
+            log.info("[MemberSearchIndex] 닉네임 검색 인덱스 적재 완료: members={}, keys={}, elapsedMs={}",
+                    loaded.nicknames.size(), loaded.postings.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private void apply(Index target, String[] event) {
+        Long memberId = Long.valueOf(event[1]);
+        switch (event[0]) {
+            case UPSERT -> target.put(memberId, normalize(event[2]));
+            case REMOVE -> target.remove(memberId);
+            default -> log.warn("[MemberSearchIndex] 알 수 없는 이벤트: {}", event[0]);
+        }
+    }
+
+    // 탈퇴하지 않은 회원 닉네임을 ID 순으로 나눠 읽어서 인덱스 생성
+    private Index load() {
+        Index loaded = new Index();
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = memberRepository.findActiveNicknamesAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                loaded.put((Long) row[0], normalize((String) row[1]));
+            }
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                return loaded;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    // 후보를 좁힐 역색인 키 (입력 중일 수 있는 마지막 글자는 받침을 뺀 음절/초성으로만 좁힘)
+    private static List<String> candidateKeys(String query, boolean chosungOnly) {
+        if (chosungOnly) {
+            return grams(CHOSUNG_GRAM, query);
+        }
+        String complete = query.substring(0, query.length() - 1);
+        if (!complete.isEmpty()) {
+            return grams(GRAM, complete);
+        }
+
+        char last = query.charAt(0);
+        if (isSyllable(last)) {
+            return List.of(SYLLABLE + stripJongsung(last));
+        }
+        return List.of(GRAM + last);
+    }
+
+    // 한 글자면 1-gram, 두 글자 이상이면 2-gram 목록
+    private static List<String> grams(String prefix, String text) {
+        if (text.length() == 1) {
+            return List.of(prefix + text);
+        }
+        List<String> result = new ArrayList<>(text.length() - 1);
+        for (int i = 0; i + 1 < text.length(); i++) {
+            result.add(prefix + text.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    // 닉네임이 가지는 모든 역색인 키
+    private static Set<String> keysOf(String nickname) {
+        Set<String> keys = new HashSet<>();
+        String chosung = toChosung(nickname);
+        for (int i = 0; i < nickname.length(); i++) {
+            char ch = nickname.charAt(i);
+            keys.add(GRAM + ch);
+            keys.add(CHOSUNG_GRAM + chosung.charAt(i));
+            if (i + 1 < nickname.length()) {
+                keys.add(GRAM + nickname.substring(i, i + 2));
+                keys.add(CHOSUNG_GRAM + chosung.substring(i, i + 2));
+            }
+            if (isSyllable(ch)) {
+                keys.add(SYLLABLE + stripJongsung(ch));
+            }
+        }
+        return keys;
+    }
+
+    // query 가 나타나는 첫 위치 (마지막 글자는 자모 단위 앞부분 일치 허용)
+    private static int indexOf(String nickname, String query) {
+        int last = query.length() - 1;
+        for (int start = 0; start + last < nickname.length(); start++) {
+            if (nickname.startsWith(query.substring(0, last), start)
+                    && lastCharMatches(nickname, start + last, query.charAt(last))) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    // 입력 중인 마지막 글자 비교
+    // - 초성만 입력("ㅁ") → 그 초성으로 시작하는 음절
+    // - 받침 없는 음절("야") → 받침만 다른 음절("약", "얌")
+    // - 받침 있는 음절("얌") → 받침이 다음 음절의 초성으로 넘어간 경우("야미")
+    private static boolean lastCharMatches(String nickname, int index, char typed) {
+        char actual = nickname.charAt(index);
+        if (actual == typed) {
+            return true;
+        }
+        if (!isSyllable(actual)) {
+            return false;
+        }
+        if (CHOSUNG.indexOf(typed) >= 0) {
+            return chosungOf(actual) == typed;
+        }
+        if (!isSyllable(typed)) {
+            return false;
+        }
+
+        int jongsung = (typed - HANGUL_BASE) % 28;
+        if (jongsung == 0) {
+            return stripJongsung(actual) == typed;
+        }
+        return actual == typed - jongsung
+                && index + 1 < nickname.length()
+                && isSyllable(nickname.charAt(index + 1))
+                && chosungOf(nickname.charAt(index + 1)) == JONGSUNG.charAt(jongsung);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // LIKE 와일드카드(%, _)와 이스케이프 문자(!)를 글자 그대로 찾도록 이스케이프
+    // (이스케이프 문자를 '\' 대신 '!' 로 써서 MySQL 문자열 리터럴의 백슬래시 처리와 섞이지 않음, 백슬래시는 그대로 일반 글자)
+    static String escapeLike(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '%' || ch == '_' || ch == '!') {
+                result.append('!');
+            }
+            result.append(ch);
+        }
+        return result.toString();
+    }
+
+    private static boolean isChosungOnly(String text) {
+        return text.chars().allMatch(ch -> CHOSUNG.indexOf(ch) >= 0);
+    }
+
+    // 한글 음절은 초성으로 바꾸고 나머지 글자는 그대로 (길이 동일)
+    private static String toChosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            result.append(isSyllable(ch) ? chosungOf(ch) : ch);
+        }
+        return result.toString();
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= HANGUL_BASE && ch <= HANGUL_LAST;
+    }
+
+    private static char chosungOf(char syllable) {
+        return CHOSUNG.charAt((syllable - HANGUL_BASE) / 588);
+    }
+
+    private static char stripJongsung(char syllable) {
+        return (char) (syllable - (syllable - HANGUL_BASE) % 28);
+    }
+
+    private static class Match {
+        private final Long memberId;
+        private final String nickname;
+        private final int position;
+
+        Match(Long memberId, String nickname, int position) {
+            this.memberId = memberId;
+            this.nickname = nickname;
+            this.position = position;
+        }
+
+        // 0: 정확히 일치, 1: 앞부분 일치, 2: 중간 일치
+        int rank(String query) {
+            if (position > 0) {
+                return 2;
+            }
+            return nickname.equals(query) ? 0 : 1;
+        }
+    }
+
+    // 회원 ID -> 정규화된 닉네임, 역색인 키 -> 회원 ID
+    private static class Index {
+        private final ConcurrentHashMap<Long, String> nicknames = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        void put(Long memberId, String nickname) {
+            remove(memberId);
+            nicknames.put(memberId, nickname);
+            for (String key : keysOf(nickname)) {
+                postings.compute(key, (k, ids) -> {
+                    if (ids == null) {
+                        ids = ConcurrentHashMap.newKeySet();
+                    }
+                    ids.add(memberId);
+                    return ids;
+                });
+            }
+        }
+
+        void remove(Long memberId) {
+            String nickname = nicknames.remove(memberId);
+            if (nickname == null) {
+                return;
+            }
+            for (String key : keysOf(nickname)) {
+                postings.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(memberId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        // 키 중 회원 수가 가장 적은 목록 (나머지 조건은 닉네임 비교로 확인)
+        Set<Long> candidates(List<String> keys) {
+            Set<Long> smallest = null;
+            for (String key : keys) {
+                Set<Long> ids = postings.get(key);
+                if (ids == null) {
+                    return Set.of();
+                }
+                if (smallest == null || ids.size() < smallest.size()) {
+                    smallest = ids;
+                }
+            }
+            return smallest != null ? smallest : Set.of();
+        }
+    }
+}
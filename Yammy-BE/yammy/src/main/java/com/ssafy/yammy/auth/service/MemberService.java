@@ -2,16 +2,19 @@ package com.ssafy.yammy.auth.service;
 
 import com.ssafy.yammy.auth.dto.MemberSearchResponse;
 import com.ssafy.yammy.auth.entity.Member;
+import com.ssafy.yammy.auth.entity.MemberStats;
 import com.ssafy.yammy.auth.repository.MemberRepository;
-import com.ssafy.yammy.follow.repository.FollowRepository;
-import com.ssafy.yammy.post.repository.PostRepository;
+import com.ssafy.yammy.follow.service.FollowGraphIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,28 +23,31 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final FollowRepository followRepository;
-    private final PostRepository postRepository;
+    private final FollowGraphIndex followGraphIndex;
+    private final MemberStatsService memberStatsService;
+    private final MemberSearchIndex memberSearchIndex;
 
     /**
-     * 닉네임으로 회원 검색
+     * 닉네임으로 회원 검색 (정확히 일치 > 앞부분 일치 > 중간 일치 순, 페이징)
      */
-    public List<MemberSearchResponse> searchMembers(String query, Long currentMemberId) {
-        log.info("회원 검색: query={}, currentMemberId={}", query, currentMemberId);
+    public List<MemberSearchResponse> searchMembers(String query, Long currentMemberId, int page, int size) {
+        log.info("회원 검색: query={}, currentMemberId={}, page={}, size={}", query, currentMemberId, page, size);
 
-        // 탈퇴하지 않은 회원 중에서 닉네임으로 검색
-        List<Member> members = memberRepository.findByNicknameContainingAndDeletedAtIsNull(query);
+        // 탈퇴하지 않은 회원 중에서 검색 인덱스로 순위순 ID 조회 후 한 번에 로딩
+        List<Long> memberIds = memberSearchIndex.search(query, page, size);
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
 
-        return members.stream()
-                .map(member -> {
-                    Long followerCount = followRepository.countByFollowingId(member.getMemberId());
-                    Long postCount = postRepository.countByMemberId(member.getMemberId());
-                    Boolean isFollowing = currentMemberId != null &&
-                            followRepository.existsByFollowerIdAndFollowingId(currentMemberId, member.getMemberId());
-
-                    return MemberSearchResponse.from(member, followerCount, postCount, isFollowing);
-                })
+        Map<Long, Member> memberMap = memberRepository.findAllById(memberIds).stream()
+                .filter(member -> member.getDeletedAt() == null)
+                .collect(Collectors.toMap(Member::getMemberId, member -> member));
+        List<Member> members = memberIds.stream()
+                .filter(memberMap::containsKey)
+                .map(memberMap::get)
                 .collect(Collectors.toList());
+
+        return buildSearchResponses(members, currentMemberId);
     }
 
     /**
@@ -53,14 +59,27 @@ public class MemberService {
         // 탈퇴하지 않은 회원만 조회
         Page<Member> membersPage = memberRepository.findAllByDeletedAtIsNull(pageable);
 
-        return membersPage.getContent().stream()
+        return buildSearchResponses(membersPage.getContent(), currentMemberId);
+    }
+
+    // 팔로워/게시글 수는 member_stats 에서, 팔로우 여부는 한 번에 조회
+    private List<MemberSearchResponse> buildSearchResponses(List<Member> members, Long currentMemberId) {
+        List<Long> memberIds = members.stream()
+                .map(Member::getMemberId)
+                .collect(Collectors.toList());
+
+        Map<Long, MemberStats> statsMap = memberStatsService.getStats(memberIds);
+
+        Set<Long> followingIds = currentMemberId != null
+                ? followGraphIndex.filterFollowing(currentMemberId, memberIds)
+                : new HashSet<>();
+
+        return members.stream()
                 .map(member -> {
-                    Long followerCount = followRepository.countByFollowingId(member.getMemberId());
-                    Long postCount = postRepository.countByMemberId(member.getMemberId());
-                    Boolean isFollowing = currentMemberId != null &&
-                            followRepository.existsByFollowerIdAndFollowingId(currentMemberId, member.getMemberId());
+                    MemberStats stats = statsMap.getOrDefault(member.getMemberId(), MemberStats.empty(member.getMemberId()));
+                    Boolean isFollowing = currentMemberId != null && followingIds.contains(member.getMemberId());
 
-                    return MemberSearchResponse.from(member, followerCount, postCount, isFollowing);
+                    return MemberSearchResponse.from(member, stats.getFollowerCount(), stats.getPostCount(), isFollowing);
                 })
                 .collect(Collectors.toList());
     }
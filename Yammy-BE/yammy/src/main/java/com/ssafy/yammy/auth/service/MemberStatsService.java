@@ -0,0 +1,107 @@
+package com.ssafy.yammy.auth.service;
+
+import com.ssafy.yammy.auth.entity.MemberStats;
+import com.ssafy.yammy.auth.repository.MemberStatsRepository;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 팔로워/팔로잉/게시글 수 조회 및 증감
+ * - 프로필/검색 화면에서 COUNT(*) 를 매번 실행하지 않도록 member_stats 값을 사용
+ * - 증감은 호출한 쪽 트랜잭션 안에서 UPDATE 한 번으로 반영
+ * - 행이 없을 때의 생성/재계산은 원본 행을 잠그며 읽으므로, 호출한 트랜잭션이 커밋된 뒤에 별도 트랜잭션으로 실행
+ *   (쓰기 트랜잭션 안에서 실행하면 바깥 트랜잭션이 잡은 락을 기다리다 lock wait timeout)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+
+    // 여러 회원의 카운터 조회 (행이 없는 회원은 원본 테이블에서 계산해서 반환하고, 행은 커밋 후 생성)
+    public Map<Long, MemberStats> getStats(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, MemberStats> result = memberStatsRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(MemberStats::getMemberId, Function.identity()));
+
+        List<Long> missingIds = memberIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+
+        for (Object[] row : memberStatsRepository.countFromSource(missingIds)) {
+            MemberStats stats = MemberStats.builder()
+                    .memberId(((Number) row[0]).longValue())
+                    .followerCount(((Number) row[1]).longValue())
+                    .followingCount(((Number) row[2]).longValue())
+                    .postCount(((Number) row[3]).longValue())
+                    .build();
+            result.put(stats.getMemberId(), stats);
+        }
+
+        recomputeAfterCommit(missingIds);
+        return result;
+    }
+
+    public MemberStats getStats(Long memberId) {
+        return getStats(List.of(memberId)).getOrDefault(memberId, MemberStats.empty(memberId));
+    }
+
+    // 가입: 빈 카운터 행 생성 (가입 트랜잭션 안에서 호출)
+    public void onMemberCreated(Long memberId) {
+        memberStatsRepository.createEmpty(memberId);
+    }
+
+    // 팔로우(+1) / 언팔로우(-1)
+    // 행이 없어 반영되지 않은 쪽은 커밋 후 재계산해서, 이번 변경이 다음 정기 재계산까지 누락되지 않도록 함
+    public void onFollowChanged(Long followerId, Long followingId, long delta) {
+        List<Long> missingIds = new ArrayList<>();
+        if (memberStatsRepository.addFollowingCount(followerId, delta) == 0) {
+            missingIds.add(followerId);
+        }
+        if (memberStatsRepository.addFollowerCount(followingId, delta) == 0) {
+            missingIds.add(followingId);
+        }
+        if (!missingIds.isEmpty()) {
+            recomputeAfterCommit(missingIds);
+        }
+    }
+
+    // 게시글 작성(+1) / 삭제(-1)
+    public void onPostCountChanged(Long memberId, long delta) {
+        if (memberStatsRepository.addPostCount(memberId, delta) == 0) {
+            recomputeAfterCommit(List.of(memberId));
+        }
+    }
+
+    // 탈퇴 회원 정리: 팔로우 관계 삭제 전에 호출해야 상대방 카운터가 맞음
+    public void onMemberWithdrawn(Long memberId) {
+        memberStatsRepository.decrementFollowingCountOfFollowers(memberId);
+        memberStatsRepository.decrementFollowerCountOfFollowings(memberId);
+        memberStatsRepository.deleteById(memberId);
+    }
+
+    // 커밋된 원본 테이블 기준으로 카운터 행 생성/재계산 (트랜잭션 밖이면 바로 실행)
+    private void recomputeAfterCommit(Collection<Long> memberIds) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            try {
+                memberStatsRepository.recompute(memberIds);
+            } catch (Exception e) {
+                log.warn("[MemberStatsService] 회원 카운터 생성 실패: memberIds={}, error={}", memberIds, e.getMessage());
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.ssafy.yammy.chatgames.service;
 
+import com.google.cloud.firestore.DocumentReference;
 import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Bucket;
 import com.google.cloud.Timestamp;
@@ -47,13 +49,7 @@ public class FirebaseChatService {
         var docRef = firestore.collection("chatRooms")
                 .document(roomKey)
                 .collection("messages")
-                .add(Map.of(
-                        "uid", memberId.toString(),
-                        "nickname", nickname,
-                        "type", "image",
-                        "imageUrl", imageUrl,
-                        "createdAt", Timestamp.now()
-                ))
+                .add(imageMessage(memberId, nickname, imageUrl, Timestamp.now()))
                 .get();
 
         log.info("Message saved: {} in room: {}", docRef.getId(), roomKey);
@@ -72,16 +68,48 @@ public class FirebaseChatService {
         var docRef = firestore.collection("chatRooms")
                 .document(roomKey)
                 .collection("messages")
-                .add(Map.of(
-                        "uid", memberId.toString(),
-                        "nickname", nickname,
-                        "type", "text",
-                        "text", message,
-                        "createdAt", Timestamp.now()
-                ))
+                .add(textMessage(memberId, nickname, message, Timestamp.now()))
                 .get();
 
         log.info("Text message saved: {} in room: {}", docRef.getId(), roomKey);
         return docRef.getId();
     }
+
+    // WriteBatch 에 메시지 추가 (Kafka 배치 소비용, 커밋은 호출하는 쪽에서)
+    public void addImageMessage(WriteBatch batch, String roomKey, String messageId, Long memberId, String nickname, String imageUrl, Timestamp createdAt) {
+        batch.set(messageDocument(roomKey, messageId), imageMessage(memberId, nickname, imageUrl, createdAt));
+    }
+
+    public void addTextMessage(WriteBatch batch, String roomKey, String messageId, Long memberId, String nickname, String message, Timestamp createdAt) {
+        batch.set(messageDocument(roomKey, messageId), textMessage(memberId, nickname, message, createdAt));
+    }
+
+    // 이벤트 ID 가 있으면 문서 ID 로 사용 (재처리 시 중복 저장 방지)
+    private DocumentReference messageDocument(String roomKey, String messageId) {
+        var messages = FirestoreClient.getFirestore()
+                .collection("chatRooms")
+                .document(roomKey)
+                .collection("messages");
+        return messageId != null ? messages.document(messageId) : messages.document();
+    }
+
+    private Map<String, Object> imageMessage(Long memberId, String nickname, String imageUrl, Timestamp createdAt) {
+        return Map.of(
+                "uid", memberId.toString(),
+                "nickname", nickname,
+                "type", "image",
+                "imageUrl", imageUrl,
+                "createdAt", createdAt
+        );
+    }
+
+    private Map<String, Object> textMessage(Long memberId, String nickname, String message, Timestamp createdAt) {
+        return Map.of(
+                "uid", memberId.toString(),
+                "nickname", nickname,
+                "type", "text",
+                "text", message,
+                "createdAt", createdAt
+        );
+    }
 }
\ No newline at end of file
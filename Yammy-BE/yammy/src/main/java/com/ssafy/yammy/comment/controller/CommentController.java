@@ -60,6 +60,23 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 답글 더보기
+     */
+    @GetMapping("/{commentId}/replies")
+    @Operation(summary = "답글 조회", description = "댓글의 하위 답글을 조회합니다. (커서 기반 페이징)")
+    public ResponseEntity<CommentListResponse> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal(errorOnInvalidType = false) CustomUserDetails userDetails) {
+
+        Long memberId = userDetails != null ? userDetails.getMemberId() : null;
+        log.info("[CommentController] GET /api/comments/{}/replies - cursor: {}, memberId: {}", commentId, cursor, memberId);
+
+        CommentListResponse response = commentService.getReplies(commentId, cursor, memberId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 댓글 수정
      */
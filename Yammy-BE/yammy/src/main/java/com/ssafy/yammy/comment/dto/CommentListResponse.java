@@ -13,4 +13,7 @@ public class CommentListResponse {
     private List<CommentResponse> comments;
     private Long nextCursor;
     private Boolean hasNext;
+
+    // 답글 더보기 응답에만 채움 (마지막 답글의 경로, 다음 요청의 cursor 로 그대로 전달)
+    private String nextReplyCursor;
 }
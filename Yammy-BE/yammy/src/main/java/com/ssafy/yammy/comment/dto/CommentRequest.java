@@ -11,4 +11,7 @@ import lombok.NoArgsConstructor;
 public class CommentRequest {
     @Size(max = 500, message = "댓글은 500자 이하로 입력해주세요")
     private String content;
+
+    // 답글 작성 시 부모 댓글 ID (최상위 댓글이면 null)
+    private Long parentId;
 }
@@ -1,17 +1,23 @@
 package com.ssafy.yammy.comment.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CommentResponse {
     private Long id;
     private Long postId;
+    private Long parentId;
+    private Integer depth;
+    @JsonIgnore
+    private String path;
     private Long memberId;
     private String nickname;
     private String profileImage;
@@ -21,4 +27,9 @@ public class CommentResponse {
     private Boolean isLiked;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 최상위 댓글에만 채움: 앞쪽 답글 미리보기 (깊이 우선 순서, depth 로 들여쓰기)
+    private List<CommentResponse> replies;
+    private Boolean hasMoreReplies;
+    private String repliesNextCursor;  // 답글 더보기 cursor (마지막 미리보기 답글의 경로)
 }
@@ -6,13 +6,21 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment",
+        indexes = {
+                @Index(name = "idx_comment_post_id_id", columnList = "post_id, id"),
+                @Index(name = "idx_comment_post_id_parent_id_id", columnList = "post_id, parent_id, id"),
+                @Index(name = "idx_comment_post_id_path", columnList = "post_id, path")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Comment {
 
+    public static final int PATH_SEGMENT_LENGTH = 19;
+    public static final String PATH_SEPARATOR = "/";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,6 +31,21 @@ public class Comment {
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
+    // 부모 댓글 ID (최상위 댓글이면 null)
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 구체화 경로: 루트부터 자신까지의 ID를 고정 길이(19자리)로 채워 '/'로 연결
+    // 예) 0000000000000000012/0000000000000000034
+    // 경로 순으로 정렬하면 스레드가 깊이 우선 순서가 되고, 하위 답글은 경로 범위 검색 한 번으로 조회
+    @Column(length = 255)
+    private String path;
+
+    // 깊이 (최상위 댓글 0)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer depth = 0;
+
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
@@ -52,15 +75,34 @@ public class Comment {
         this.content = content;
     }
 
-    // 좋아요 수 증가
-    public void incrementLikeCount() {
-        this.likeCount++;
+    // ID 발급 후 경로 지정 (parent 가 null 이면 최상위 댓글)
+    public void assignPath(Comment parent) {
+        this.path = parent != null ? parent.getPath() + PATH_SEPARATOR + pathSegment(id) : pathSegment(id);
+    }
+
+    // 경로 한 칸 (ID를 19자리로 채움, 문자열 비교 순서 = ID 순서)
+    public static String pathSegment(Long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
+
+    // 경로의 첫 칸 = 최상위 댓글 ID
+    public static Long rootIdOf(String path) {
+        return Long.valueOf(path.substring(0, PATH_SEGMENT_LENGTH));
+    }
+
+    // 경로 형식 확인 (19자리 숫자 칸을 '/'로 연결)
+    public static boolean isValidPath(String path) {
+        return path != null && path.length() <= 255 && path.matches("\\d{" + PATH_SEGMENT_LENGTH + "}(/\\d{" + PATH_SEGMENT_LENGTH + "})*");
+    }
+
+    // path 가 ancestorPath 자신이거나 그 하위 답글인지
+    public static boolean isInSubtree(String path, String ancestorPath) {
+        return path.equals(ancestorPath) || path.startsWith(ancestorPath + PATH_SEPARATOR);
     }
 
-    // 좋아요 수 감소
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
+    // 이 댓글의 모든 하위 답글 경로보다 큰 값 (path 이상 ~ 이 값 미만 범위 = 자신 + 하위 답글)
+    // '/' 다음 문자가 '0' 이므로 하위 답글 경로는 모두 이 값보다 작음
+    public static String subtreeUpperBound(String path) {
+        return path + "0";
     }
 }
@@ -6,7 +6,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment_like")
+@Table(name = "comment_like", uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "member_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,18 @@
+package com.ssafy.yammy.comment.repository;
+
+import com.ssafy.yammy.global.util.CountDeltaUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CommentCountBatchRepositoryImpl implements CommentCountBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addLikeCounts(Map<Long, Integer> deltas) {
+        CountDeltaUpdater.addAll(jdbcTemplate, "comment", "like_count", deltas);
+    }
+}
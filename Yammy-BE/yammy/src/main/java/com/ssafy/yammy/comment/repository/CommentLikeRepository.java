@@ -2,6 +2,7 @@ package com.ssafy.yammy.comment.repository;
 
 import com.ssafy.yammy.comment.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +22,47 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // 좋아요 삭제
     void deleteByCommentIdAndMemberId(Long commentId, Long memberId);
 
+    // 좋아요 삭제 (조회 없이 바로 삭제, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.commentId = :commentId AND cl.memberId = :memberId")
+    int deleteLike(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    // 좋아요 저장 (이미 있으면 무시, 저장된 행 수 반환)
+    // 같은 회원의 좋아요 요청이 동시에 와도 유니크 제약 예외 없이 한 건만 저장됨
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_like (comment_id, member_id, created_at) VALUES (:commentId, :memberId, NOW())",
+            nativeQuery = true)
+    int insertLike(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    // 게시글 삭제 시 해당 게시글 댓글의 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.commentId IN (SELECT c.id FROM Comment c WHERE c.postId = :postId)")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.commentId IN (SELECT c.id FROM Comment c WHERE c.postId IN :postIds)")
+    int deleteByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 댓글과 하위 답글의 좋아요 일괄 삭제 (경로 범위)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.commentId IN " +
+            "(SELECT c.id FROM Comment c WHERE c.postId = :postId AND c.path >= :fromPath AND c.path < :toPath)")
+    int deleteBySubtree(@Param("postId") Long postId, @Param("fromPath") String fromPath, @Param("toPath") String toPath);
+
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.commentId IN :commentIds")
+    int deleteByCommentIdIn(@Param("commentIds") List<Long> commentIds);
+
+    // 회원이 좋아요한 댓글 ID 조회 (탈퇴 회원 콘텐츠 정리용, 청크 단위)
+    // 잠금 조회라 같은 회원 정리가 겹쳐도 한쪽이 커밋할 때까지 기다렸다가 남은 행만 가져감 (좋아요 수 중복 차감 방지)
+    @Query(value = "SELECT comment_id FROM comment_like WHERE member_id = :memberId ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findCommentIdsByMemberIdForUpdate(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.memberId = :memberId AND cl.commentId IN :commentIds")
+    int deleteByMemberIdAndCommentIdIn(@Param("memberId") Long memberId, @Param("commentIds") List<Long> commentIds);
+
     // 댓글의 좋아요 수
     long countByCommentId(Long commentId);
 
@@ -3,22 +3,98 @@ package com.ssafy.yammy.comment.repository;
 import com.ssafy.yammy.comment.entity.Comment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentCountBatchRepository {
 
-    // 특정 게시글의 댓글 조회 (최신순, 커서 기반 페이징)
-    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND (:cursor IS NULL OR c.id < :cursor) ORDER BY c.id DESC")
-    List<Comment> findByPostIdWithCursor(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+    // 특정 게시글의 최상위 댓글 조회 (최신순, 커서 기반 페이징)
+    // 커서 유무에 따라 쿼리를 분리해 (post_id, parent_id, id) 인덱스 범위 검색을 사용
+    default List<Comment> findRootsByPostIdWithCursor(Long postId, Long cursor, Pageable pageable) {
+        return cursor == null ? findRootsByPostId(postId, pageable) : findRootsByPostIdBefore(postId, cursor, pageable);
+    }
+
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL ORDER BY c.id DESC")
+    List<Comment> findRootsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL AND c.id < :cursor ORDER BY c.id DESC")
+    List<Comment> findRootsByPostIdBefore(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 경로 범위 [fromPath, toPath) 안의 답글을 최상위 댓글별로 경로 순 앞에서부터 limit 개씩 조회
+    // 한 페이지의 최상위 댓글은 ID가 연속 구간이므로 (post_id, path) 인덱스 범위 검색 한 번으로 처리
+    @Query(value = "SELECT t.* FROM (" +
+            "  SELECT c.*, ROW_NUMBER() OVER (PARTITION BY LEFT(c.path, " + Comment.PATH_SEGMENT_LENGTH + ") ORDER BY c.path) AS rn" +
+            "  FROM comment c" +
+            "  WHERE c.post_id = :postId AND c.path >= :fromPath AND c.path < :toPath AND c.parent_id IS NOT NULL" +
+            ") t WHERE t.rn <= :limit ORDER BY t.path",
+            nativeQuery = true)
+    List<Comment> findFirstRepliesInRange(@Param("postId") Long postId,
+                                          @Param("fromPath") String fromPath,
+                                          @Param("toPath") String toPath,
+                                          @Param("limit") int limit);
+
+    // 특정 댓글의 하위 답글 더보기 (경로 순, afterPath 이후부터)
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.path > :afterPath AND c.path < :toPath ORDER BY c.path ASC")
+    List<Comment> findRepliesAfter(@Param("postId") Long postId,
+                                   @Param("afterPath") String afterPath,
+                                   @Param("toPath") String toPath,
+                                   Pageable pageable);
+
+    // 댓글과 하위 답글 일괄 삭제 (경로 범위)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.postId = :postId AND c.path >= :fromPath AND c.path < :toPath")
+    int deleteSubtree(@Param("postId") Long postId, @Param("fromPath") String fromPath, @Param("toPath") String toPath);
+
+    // 경로가 비어있는 기존 댓글(답글 기능 추가 이전, 모두 최상위)에 경로 채우기 (한 번에 limit 건씩)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comment SET path = LPAD(id, " + Comment.PATH_SEGMENT_LENGTH + ", '0') WHERE path IS NULL " +
+            "ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    int backfillPath(@Param("limit") int limit);
 
     // 특정 게시글의 댓글 수
     long countByPostId(Long postId);
 
-    // 게시글 삭제 시 댓글도 함께 삭제
-    void deleteByPostId(Long postId);
+    // 게시글 삭제 시 댓글도 함께 삭제 (조회 없이 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 회원이 작성한 댓글의 (댓글 ID, 게시글 ID, 경로) 조회 (탈퇴 회원 콘텐츠 정리용, 청크 단위)
+    // 잠금 조회라 같은 회원 정리가 겹쳐도 한쪽이 커밋할 때까지 기다렸다가 남은 행만 가져감 (댓글 수 중복 차감 방지)
+    @Query(value = "SELECT id, post_id, path FROM comment WHERE member_id = :memberId ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> findIdPostIdAndPathByMemberIdForUpdate(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    // 여러 댓글과 각각의 하위 답글(다른 회원 답글 포함)의 (댓글 ID, 게시글 ID) 조회 (탈퇴 회원 콘텐츠 정리용)
+    // 댓글마다 (post_id, path) 인덱스 범위 검색, 하위 답글도 잠가 다른 삭제와 댓글 수를 중복 차감하지 않도록 함
+    @Query(value = "SELECT d.id, d.post_id FROM comment c " +
+            "JOIN comment d ON d.post_id = c.post_id AND d.path >= c.path AND d.path < CONCAT(c.path, '0') " +
+            "WHERE c.id IN :commentIds FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> findSubtreeIdAndPostIdsForUpdate(@Param("commentIds") List<Long> commentIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    // 여러 댓글의 (댓글 ID, 좋아요 수) 조회 (엔티티 로딩 없이)
+    @Query("SELECT c.id, c.likeCount FROM Comment c WHERE c.id IN :commentIds")
+    List<Object[]> findLikeCountsByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    // 여러 댓글의 좋아요 수 1씩 차감 (탈퇴 회원 좋아요 정리용, UPDATE 한 번, 0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.likeCount = CASE WHEN c.likeCount > 0 THEN c.likeCount - 1 ELSE 0 END WHERE c.id IN :commentIds")
+    int decrementLikeCounts(@Param("commentIds") List<Long> commentIds);
 }
@@ -0,0 +1,41 @@
+package com.ssafy.yammy.comment.scheduler;
+
+import com.ssafy.yammy.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 path 컬럼이 비어있는 기존 댓글에 경로를 채움
+ * (답글 기능 추가 이전에 작성된 댓글은 모두 최상위 댓글, 이미 채워져 있으면 아무것도 하지 않음)
+ * - 한 번에 BATCH_SIZE 건씩 나눠 커밋해서 긴 트랜잭션/대량 잠금을 피함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathBackfillInitializer {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final CommentRepository commentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCommentPaths() {
+        try {
+            int total = 0;
+            int updated;
+            do {
+                updated = commentRepository.backfillPath(BATCH_SIZE);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Server startup - comment path backfill completed: {} rows", total);
+            }
+        } catch (Exception e) {
+            log.error("Server startup - comment path backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
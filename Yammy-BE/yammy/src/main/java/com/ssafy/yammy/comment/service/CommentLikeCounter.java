@@ -0,0 +1,52 @@
+package com.ssafy.yammy.comment.service;
+
+import com.ssafy.yammy.comment.repository.CommentRepository;
+import com.ssafy.yammy.global.util.WriteBehindCounter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 댓글 좋아요 수 Write-Behind 카운터
+ * - 좋아요 토글마다 comment 행을 잠그지 않고 증감분만 누적했다가 주기적으로 comment.like_count 에 반영
+ * - 누적/조회/반영 방식은 WriteBehindCounter 참고
+ */
+@Component
+public class CommentLikeCounter {
+
+    private final WriteBehindCounter counter;
+
+    public CommentLikeCounter(CommentRepository commentRepository) {
+        this.counter = new WriteBehindCounter("CommentLikeCounter", 50_000, Duration.ofSeconds(10),
+                commentRepository::findLikeCountsByIdIn, commentRepository::addLikeCounts);
+    }
+
+    // 증감분 누적 (트랜잭션 중이면 커밋 후에 반영)
+    public void add(Long commentId, long delta) {
+        counter.add(commentId, delta);
+    }
+
+    // 여러 댓글의 좋아요 수 조회 (엔티티 로딩 없이 id, like_count 만 조회, 없는 댓글은 제외)
+    public Map<Long, Integer> getLikeCounts(Collection<Long> commentIds) {
+        return counter.getCounts(commentIds);
+    }
+
+    public Integer getLikeCount(Long commentId) {
+        return counter.getCount(commentId);
+    }
+
+    // 누적된 증감분을 DB에 반영
+    @Scheduled(fixedDelayString = "${comment.like.flush-interval-ms:3000}")
+    public void flush() {
+        counter.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,7 +1,5 @@
 package com.ssafy.yammy.comment.service;
 
-import com.ssafy.yammy.comment.entity.Comment;
-import com.ssafy.yammy.comment.entity.CommentLike;
 import com.ssafy.yammy.comment.repository.CommentLikeRepository;
 import com.ssafy.yammy.comment.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,32 +16,27 @@ public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
     private final CommentRepository commentRepository;
+    private final CommentLikeCounter commentLikeCounter;
 
     // 댓글 좋아요 토글
+    // comment 행은 잠그지 않고, 좋아요 수는 CommentLikeCounter가 모아서 반영
     @Transactional
     public boolean toggleLike(Long commentId, Long memberId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
-
-        boolean isLiked = commentLikeRepository.existsByCommentIdAndMemberId(commentId, memberId);
+        if (!commentRepository.existsById(commentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+        }
 
-        if (isLiked) {
-            // 좋아요 취소
-            commentLikeRepository.deleteByCommentIdAndMemberId(commentId, memberId);
-            comment.decrementLikeCount();
-            commentRepository.save(comment);
+        // 좋아요 취소 (삭제된 행이 있으면 취소된 것)
+        if (commentLikeRepository.deleteLike(commentId, memberId) > 0) {
+            commentLikeCounter.add(commentId, -1);
             return false;
-        } else {
-            // 좋아요
-            CommentLike commentLike = CommentLike.builder()
-                    .commentId(commentId)
-                    .memberId(memberId)
-                    .build();
-            commentLikeRepository.save(commentLike);
-            comment.incrementLikeCount();
-            commentRepository.save(comment);
-            return true;
         }
+
+        // 좋아요 (동시 요청으로 이미 저장된 경우 좋아요 상태로 보고, 실제로 저장했을 때만 좋아요 수 반영)
+        if (commentLikeRepository.insertLike(commentId, memberId) > 0) {
+            commentLikeCounter.add(commentId, 1);
+        }
+        return true;
     }
 
     // 좋아요 여부 확인
@@ -55,8 +48,10 @@ public class CommentLikeService {
     // 좋아요 수 조회
     @Transactional(readOnly = true)
     public long getLikeCount(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
-        return comment.getLikeCount();
+        Integer likeCount = commentLikeCounter.getLikeCount(commentId);
+        if (likeCount == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+        }
+        return likeCount;
     }
 }
@@ -9,8 +9,8 @@ import com.ssafy.yammy.comment.entity.Comment;
 import com.ssafy.yammy.comment.repository.CommentLikeRepository;
 import com.ssafy.yammy.comment.repository.CommentRepository;
 import com.ssafy.yammy.global.util.BadWordsFilterUtil;
-import com.ssafy.yammy.post.entity.Post;
 import com.ssafy.yammy.post.repository.PostRepository;
+import com.ssafy.yammy.post.service.HotPostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -32,73 +32,209 @@ public class CommentService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final BadWordsFilterUtil badWordsFilterUtil;
+    private final HotPostService hotPostService;
+    private final CommentThreadCache commentThreadCache;
+    private final CommentLikeCounter commentLikeCounter;
 
     private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int REPLY_PREVIEW_SIZE = 3;   // 최상위 댓글마다 함께 내려주는 답글 수
+    private static final int REPLY_PAGE_SIZE = 20;     // 답글 더보기 페이지 크기
+    private static final int MAX_DEPTH = 3;            // 이보다 깊은 답글은 같은 부모 아래로 붙임
 
     // 댓글 작성
     @Transactional
     public CommentResponse createComment(Long postId, Long memberId, CommentRequest request) {
         // 게시글 존재 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        }
 
         // 회원 조회
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 회원입니다."));
 
+        // 답글이면 부모 댓글 조회
+        Comment parent = resolveParent(postId, request.getParentId());
+
         String cleanContent = badWordsFilterUtil.maskBadWords(request.getContent());
 
         // 댓글 저장
         Comment comment = Comment.builder()
                 .postId(postId)
                 .memberId(memberId)
+                .parentId(parent != null ? parent.getId() : null)
+                .depth(parent != null ? parent.getDepth() + 1 : 0)
                 .content(cleanContent)
                 .build();
         Comment savedComment = commentRepository.save(comment);
 
-        // 게시글의 댓글 수 증가
-        post.incrementCommentCount();
-        postRepository.save(post);
+        // ID 발급 후 경로 지정 (아래 벌크 UPDATE 가 영속성 컨텍스트를 비우기 전에 반영)
+        savedComment.assignPath(parent);
+        commentRepository.flush();
+
+        // 게시글의 댓글 수 증가 (UPDATE 한 번으로 원자적 반영)
+        postRepository.addCommentCount(postId, 1);
 
-        return buildCommentResponse(savedComment, member, false);
+        // 인기 게시글 랭킹 반영
+        hotPostService.onCommented(postId);
+
+        CommentResponse response = buildCommentResponse(savedComment, member, false);
+        commentThreadCache.onCreated(response, DEFAULT_PAGE_SIZE + CommentThreadCache.BUFFER_SIZE, REPLY_PREVIEW_SIZE);
+        return response;
     }
 
     // 댓글 조회 (커서 기반 페이징)
+    // 최상위 댓글 페이지 + 댓글마다 앞쪽 답글 REPLY_PREVIEW_SIZE 개
+    // 첫 페이지는 게시글별 캐시에서 꺼내고 조회자별 좋아요 여부만 DB에서 조회 (좋아요 수는 CommentLikeCounter)
     @Transactional(readOnly = true)
     public CommentListResponse getComments(Long postId, Long cursor, Long memberId) {
+        if (cursor == null) {
+            return getFirstPage(postId, memberId);
+        }
+
         PageRequest pageRequest = PageRequest.of(0, DEFAULT_PAGE_SIZE + 1);
-        List<Comment> comments = commentRepository.findByPostIdWithCursor(postId, cursor, pageRequest);
+        List<Comment> roots = commentRepository.findRootsByPostIdWithCursor(postId, cursor, pageRequest);
+
+        boolean hasNext = roots.size() > DEFAULT_PAGE_SIZE;
+        if (hasNext) {
+            roots = roots.subList(0, DEFAULT_PAGE_SIZE);
+        }
+
+        return buildCommentListResponse(hydrateThreads(postId, roots), hasNext, memberId);
+    }
+
+    // 답글 더보기 (경로 순 = 깊이 우선 순서, cursor 는 마지막으로 받은 답글의 경로)
+    // 커서 댓글을 다시 조회하지 않으므로 그 사이 커서 댓글이 삭제돼도 이어서 조회됨
+    @Transactional(readOnly = true)
+    public CommentListResponse getReplies(Long commentId, String cursor, Long memberId) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+
+        String afterPath = parent.getPath();
+        if (cursor != null) {
+            if (!Comment.isValidPath(cursor) || !Comment.isInSubtree(cursor, parent.getPath())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+            afterPath = cursor;
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, REPLY_PAGE_SIZE + 1);
+        List<Comment> replies = commentRepository.findRepliesAfter(
+                parent.getPostId(), afterPath, Comment.subtreeUpperBound(parent.getPath()), pageRequest);
 
-        boolean hasNext = comments.size() > DEFAULT_PAGE_SIZE;
+        boolean hasNext = replies.size() > REPLY_PAGE_SIZE;
         if (hasNext) {
+            replies = replies.subList(0, REPLY_PAGE_SIZE);
+        }
+
+        CommentListResponse response = buildCommentListResponse(hydrate(replies), hasNext, memberId);
+        return CommentListResponse.builder()
+                .comments(response.getComments())
+                .hasNext(hasNext)
+                .nextReplyCursor(hasNext && !replies.isEmpty() ? replies.get(replies.size() - 1).getPath() : null)
+                .build();
+    }
+
+    private CommentListResponse getFirstPage(Long postId, Long memberId) {
+        CommentThreadCache.CachedPage page = commentThreadCache.get(postId, this::loadFirstPage);
+
+        List<CommentResponse> comments = page.getComments();
+        boolean hasNext = comments.size() > DEFAULT_PAGE_SIZE || page.isHasMore();
+        if (comments.size() > DEFAULT_PAGE_SIZE) {
             comments = comments.subList(0, DEFAULT_PAGE_SIZE);
         }
 
-        // 댓글 ID 목록 추출
-        List<Long> commentIds = comments.stream()
-                .map(Comment::getId)
+        return buildCommentListResponse(comments, hasNext, memberId);
+    }
+
+    // 첫 페이지 + 여유분 적재 (isLiked 제외)
+    private CommentThreadCache.CachedPage loadFirstPage(Long postId) {
+        int capacity = DEFAULT_PAGE_SIZE + CommentThreadCache.BUFFER_SIZE;
+        List<Comment> roots = commentRepository.findRootsByPostId(postId, PageRequest.of(0, capacity + 1));
+
+        boolean hasMore = roots.size() > capacity;
+        if (hasMore) {
+            roots = roots.subList(0, capacity);
+        }
+        return new CommentThreadCache.CachedPage(hydrateThreads(postId, roots), hasMore);
+    }
+
+    // 최상위 댓글 + 답글 미리보기를 CommentResponse 로 변환 (isLiked = false)
+    // 페이지의 최상위 댓글은 ID가 연속 구간이므로 답글은 경로 범위 쿼리 한 번으로 조회
+    private List<CommentResponse> hydrateThreads(Long postId, List<Comment> roots) {
+        if (roots.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 최신순이므로 마지막 댓글의 경로가 가장 작음
+        String fromPath = roots.get(roots.size() - 1).getPath();
+        String toPath = Comment.subtreeUpperBound(roots.get(0).getPath());
+        List<Comment> replies = commentRepository.findFirstRepliesInRange(postId, fromPath, toPath, REPLY_PREVIEW_SIZE + 1);
+
+        List<Comment> comments = new ArrayList<>(roots);
+        comments.addAll(replies);
+        Map<Long, Member> memberMap = findMembers(comments);
+
+        Map<Long, List<CommentResponse>> repliesByRootId = new HashMap<>();
+        for (Comment reply : replies) {
+            Member member = memberMap.get(reply.getMemberId());
+            if (member != null) {
+                repliesByRootId.computeIfAbsent(Comment.rootIdOf(reply.getPath()), id -> new ArrayList<>())
+                        .add(buildCommentResponse(reply, member, false));
+            }
+        }
+
+        return roots.stream()
+                .filter(root -> memberMap.containsKey(root.getMemberId()))
+                .map(root -> {
+                    List<CommentResponse> preview = repliesByRootId.getOrDefault(root.getId(), List.of());
+                    boolean hasMoreReplies = preview.size() > REPLY_PREVIEW_SIZE;
+                    return buildCommentResponse(root, memberMap.get(root.getMemberId()), false).toBuilder()
+                            .replies(List.copyOf(hasMoreReplies ? preview.subList(0, REPLY_PREVIEW_SIZE) : preview))
+                            .hasMoreReplies(hasMoreReplies)
+                            .build();
+                })
                 .collect(Collectors.toList());
+    }
 
-        // 좋아요 여부 배치 조회
-        Set<Long> likedCommentIds = memberId != null
-                ? new HashSet<>(commentLikeRepository.findLikedCommentIdsByMemberIdAndCommentIds(commentIds, memberId))
-                : new HashSet<>();
+    // 작성자 정보 배치 조회 후 CommentResponse 로 변환 (isLiked = false)
+    private List<CommentResponse> hydrate(List<Comment> comments) {
+        Map<Long, Member> memberMap = findMembers(comments);
 
-        // 작성자 정보 배치 조회
+        return comments.stream()
+                .filter(comment -> memberMap.containsKey(comment.getMemberId()))
+                .map(comment -> buildCommentResponse(comment, memberMap.get(comment.getMemberId()), false))
+                .collect(Collectors.toList());
+    }
+
+    // 작성자 정보 배치 조회
+    private Map<Long, Member> findMembers(List<Comment> comments) {
         List<Long> memberIds = comments.stream()
                 .map(Comment::getMemberId)
                 .distinct()
                 .collect(Collectors.toList());
-        Map<Long, Member> memberMap = memberRepository.findAllById(memberIds).stream()
+        return memberRepository.findAllById(memberIds).stream()
                 .collect(Collectors.toMap(Member::getMemberId, m -> m));
+    }
+
+    // 좋아요 수/좋아요 여부 배치 조회 후 응답 생성 (답글 미리보기 포함)
+    private CommentListResponse buildCommentListResponse(List<CommentResponse> comments, boolean hasNext, Long memberId) {
+        List<Long> commentIds = new ArrayList<>();
+        for (CommentResponse comment : comments) {
+            commentIds.add(comment.getId());
+            if (comment.getReplies() != null) {
+                comment.getReplies().forEach(reply -> commentIds.add(reply.getId()));
+            }
+        }
+
+        Set<Long> likedCommentIds = memberId != null && !commentIds.isEmpty()
+                ? new HashSet<>(commentLikeRepository.findLikedCommentIdsByMemberIdAndCommentIds(commentIds, memberId))
+                : new HashSet<>();
+
+        Map<Long, Integer> likeCounts = commentLikeCounter.getLikeCounts(commentIds);
 
-        // CommentResponse 리스트 생성
         List<CommentResponse> commentResponses = comments.stream()
-                .map(comment -> {
-                    Member member = memberMap.get(comment.getMemberId());
-                    boolean isLiked = likedCommentIds.contains(comment.getId());
-                    return buildCommentResponse(comment, member, isLiked);
-                })
+                .map(comment -> withViewerState(comment, likeCounts, likedCommentIds))
                 .collect(Collectors.toList());
 
         Long nextCursor = hasNext && !comments.isEmpty() ? comments.get(comments.size() - 1).getId() : null;
@@ -110,6 +246,23 @@ public class CommentService {
                 .build();
     }
 
+    // 좋아요 수/좋아요 여부 채우기 (답글 더보기 커서는 마지막 미리보기 답글)
+    private CommentResponse withViewerState(CommentResponse comment, Map<Long, Integer> likeCounts, Set<Long> likedCommentIds) {
+        CommentResponse.CommentResponseBuilder builder = comment.toBuilder()
+                .likeCount(likeCounts.getOrDefault(comment.getId(), comment.getLikeCount()))
+                .isLiked(likedCommentIds.contains(comment.getId()));
+
+        if (comment.getReplies() != null) {
+            List<CommentResponse> replies = comment.getReplies().stream()
+                    .map(reply -> withViewerState(reply, likeCounts, likedCommentIds))
+                    .collect(Collectors.toList());
+            boolean hasMoreReplies = Boolean.TRUE.equals(comment.getHasMoreReplies());
+            builder.replies(replies)
+                    .repliesNextCursor(hasMoreReplies && !replies.isEmpty() ? replies.get(replies.size() - 1).getPath() : null);
+        }
+        return builder.build();
+    }
+
     // 댓글 수정
     @Transactional
     public CommentResponse updateComment(Long commentId, Long memberId, CommentRequest request) {
@@ -131,7 +284,12 @@ public class CommentService {
 
         boolean isLiked = commentLikeRepository.existsByCommentIdAndMemberId(commentId, memberId);
 
-        return buildCommentResponse(updatedComment, member, isLiked);
+        commentThreadCache.onUpdated(buildCommentResponse(updatedComment, member, false));
+
+        // 좋아요 수는 아직 DB에 반영되지 않은 증감분까지 포함
+        return buildCommentResponse(updatedComment, member, isLiked).toBuilder()
+                .likeCount(commentLikeCounter.getLikeCount(commentId))
+                .build();
     }
 
     // 댓글 삭제
@@ -145,14 +303,37 @@ public class CommentService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 게시글의 댓글 수 감소
-        Post post = postRepository.findById(comment.getPostId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
-        post.decrementCommentCount();
-        postRepository.save(post);
+        // 댓글과 하위 답글 일괄 삭제 (경로 범위 DELETE)
+        Long postId = comment.getPostId();
+        String toPath = Comment.subtreeUpperBound(comment.getPath());
+        commentLikeRepository.deleteBySubtree(postId, comment.getPath(), toPath);
+        int deleted = commentRepository.deleteSubtree(postId, comment.getPath(), toPath);
+
+        // 게시글의 댓글 수 감소 (UPDATE 한 번으로 원자적 반영)
+        if (postRepository.addCommentCount(postId, -deleted) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        }
+
+        commentThreadCache.onDeleted(postId, commentId, comment.getPath(), DEFAULT_PAGE_SIZE, REPLY_PREVIEW_SIZE);
+    }
+
+    // 부모 댓글 조회 (최대 깊이에 도달한 댓글에 단 답글은 같은 부모 아래로 붙임)
+    private Comment resolveParent(Long postId, Long parentId) {
+        if (parentId == null) {
+            return null;
+        }
+
+        Comment parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "부모 댓글을 찾을 수 없습니다."));
+        if (!parent.getPostId().equals(postId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+        }
 
-        // 댓글 삭제
-        commentRepository.delete(comment);
+        if (parent.getDepth() >= MAX_DEPTH) {
+            return commentRepository.findById(parent.getParentId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "부모 댓글을 찾을 수 없습니다."));
+        }
+        return parent;
     }
 
     // CommentResponse 빌드 헬퍼 메서드
@@ -160,6 +341,9 @@ public class CommentService {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .postId(comment.getPostId())
+                .parentId(comment.getParentId())
+                .depth(comment.getDepth())
+                .path(comment.getPath())
                 .memberId(member.getMemberId())
                 .nickname(member.getNickname())
                 .profileImage(member.getProfileImage())
@@ -169,6 +353,8 @@ public class CommentService {
                 .isLiked(isLiked)
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
+                .replies(comment.getParentId() == null ? List.of() : null)
+                .hasMoreReplies(comment.getParentId() == null ? false : null)
                 .build();
     }
 }
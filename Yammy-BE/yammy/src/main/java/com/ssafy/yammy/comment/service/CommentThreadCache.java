@@ -0,0 +1,255 @@
+package com.ssafy.yammy.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ssafy.yammy.comment.dto.CommentResponse;
+import com.ssafy.yammy.comment.entity.Comment;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 게시글별 댓글 첫 페이지 캐시 (로컬 Caffeine)
+ * - 조회자와 무관한 댓글 목록(내용, 작성자 정보, 답글 미리보기)만 캐싱하고 좋아요 수/isLiked는 조회 시점에 채움
+ * - 댓글 작성/수정/삭제 시 캐시를 비우지 않고 해당 항목만 고쳐서 반영 (커밋 후)
+ * - 다른 서버에는 Pub/Sub으로 알려 해당 게시글 캐시를 비우게 함
+ * - 작성자 프로필 변경은 반영하지 않으므로 수정이 있어도 만료 시간은 연장하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentThreadCache implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String INVALIDATION_CHANNEL = "comment:thread:invalidate";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    // 삭제로 줄어든 만큼을 DB 재조회 없이 메우기 위해 페이지 크기보다 조금 더 보관
+    static final int BUFFER_SIZE = 10;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<Long, CachedPage> pages = Caffeine.newBuilder()
+            .maximumSize(5_000)
+            .expireAfter(new Expiry<Long, CachedPage>() {
+                @Override
+                public long expireAfterCreate(Long postId, CachedPage page, long currentTime) {
+                    return TTL.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Long postId, CachedPage page, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Long postId, CachedPage page, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 캐시된 최상위 댓글 목록 (최신순, 최대 pageSize + BUFFER_SIZE 개, 좋아요 수/isLiked 는 채워지지 않음)
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPage {
+        private final List<CommentResponse> comments;
+        private final boolean hasMore; // comments 이후에 댓글이 더 있는지
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 첫 페이지 조회 (없으면 loader 로 적재)
+    public CachedPage get(Long postId, Function<Long, CachedPage> loader) {
+        return pages.get(postId, loader);
+    }
+
+    // 새 댓글 반영 (최상위 댓글은 맨 앞에, 답글은 루트의 미리보기에 경로 순으로)
+    public void onCreated(CommentResponse comment, int capacity, int replyPreviewSize) {
+        patchAfterCommit(comment.getPostId(), page -> comment.getParentId() == null
+                ? prependRoot(page, comment, capacity)
+                : updateRoot(page, Comment.rootIdOf(comment.getPath()), root -> insertReply(root, comment, replyPreviewSize)));
+    }
+
+    // 수정된 댓글 교체 (최상위 댓글은 답글 미리보기 유지)
+    public void onUpdated(CommentResponse comment) {
+        patchAfterCommit(comment.getPostId(), page -> comment.getParentId() == null
+                ? updateRoot(page, comment.getId(), root -> comment.toBuilder()
+                        .replies(root.getReplies())
+                        .hasMoreReplies(root.getHasMoreReplies())
+                        .build())
+                : updateRoot(page, Comment.rootIdOf(comment.getPath()), root -> replaceReply(root, comment)));
+    }
+
+    // 삭제된 댓글(하위 답글 포함) 제거
+    // 뒤에 더 있는데 페이지나 답글 미리보기를 못 채우게 되면 캐시를 비움
+    public void onDeleted(Long postId, Long commentId, String path, int pageSize, int replyPreviewSize) {
+        patchAfterCommit(postId, page -> path.contains(Comment.PATH_SEPARATOR)
+                ? updateRoot(page, Comment.rootIdOf(path), root -> removeReplies(root, path, replyPreviewSize))
+                : removeRoot(page, commentId, pageSize));
+    }
+
+    // 게시글 삭제 시
+    public void evict(Long postId) {
+        pages.invalidate(postId);
+        publishInvalidation(postId);
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지 처리 (형식: {nodeId}:{postId})
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            pages.invalidate(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[CommentThreadCache] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    private void patchAfterCommit(Long postId, UnaryOperator<CachedPage> patch) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            pages.asMap().computeIfPresent(postId, (id, page) -> patch.apply(page));
+            publishInvalidation(postId);
+        });
+    }
+
+    private void publishInvalidation(Long postId) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + postId);
+        } catch (Exception e) {
+            log.warn("[CommentThreadCache] 댓글 캐시 무효화 알림 실패: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    private CachedPage prependRoot(CachedPage page, CommentResponse comment, int capacity) {
+        if (contains(page, comment.getId())) {
+            return page;
+        }
+        List<CommentResponse> comments = new ArrayList<>(page.getComments().size() + 1);
+        comments.add(comment);
+        comments.addAll(page.getComments());
+
+        boolean hasMore = page.isHasMore();
+        if (comments.size() > capacity) {
+            comments = comments.subList(0, capacity);
+            hasMore = true;
+        }
+        return new CachedPage(List.copyOf(comments), hasMore);
+    }
+
+    private CachedPage removeRoot(CachedPage page, Long commentId, int pageSize) {
+        if (!contains(page, commentId)) {
+            return page;
+        }
+        List<CommentResponse> comments = page.getComments().stream()
+                .filter(c -> !c.getId().equals(commentId))
+                .toList();
+        if (comments.size() < pageSize && page.isHasMore()) {
+            return null;
+        }
+        return new CachedPage(comments, page.isHasMore());
+    }
+
+    // 최상위 댓글 하나를 고침 (mapper 가 null 을 반환하면 캐시를 비움)
+    private CachedPage updateRoot(CachedPage page, Long rootId, UnaryOperator<CommentResponse> mapper) {
+        if (!contains(page, rootId)) {
+            return page;
+        }
+        List<CommentResponse> comments = new ArrayList<>(page.getComments().size());
+        for (CommentResponse comment : page.getComments()) {
+            if (!comment.getId().equals(rootId)) {
+                comments.add(comment);
+                continue;
+            }
+            CommentResponse updated = mapper.apply(comment);
+            if (updated == null) {
+                return null;
+            }
+            comments.add(updated);
+        }
+        return new CachedPage(List.copyOf(comments), page.isHasMore());
+    }
+
+    // 미리보기는 경로 순 앞쪽 replyPreviewSize 개를 유지
+    private CommentResponse insertReply(CommentResponse root, CommentResponse reply, int replyPreviewSize) {
+        List<CommentResponse> replies = new ArrayList<>(root.getReplies());
+        if (replies.stream().anyMatch(r -> r.getId().equals(reply.getId()))) {
+            return root;
+        }
+
+        // 미리보기 구간 뒤쪽이면 더보기로만 조회됨
+        boolean hasMore = Boolean.TRUE.equals(root.getHasMoreReplies());
+        if (hasMore && (replies.isEmpty() || reply.getPath().compareTo(replies.get(replies.size() - 1).getPath()) > 0)) {
+            return root;
+        }
+
+        int index = 0;
+        while (index < replies.size() && replies.get(index).getPath().compareTo(reply.getPath()) < 0) {
+            index++;
+        }
+        replies.add(index, reply);
+        if (replies.size() > replyPreviewSize) {
+            replies = replies.subList(0, replyPreviewSize);
+            hasMore = true;
+        }
+        return root.toBuilder()
+                .replies(List.copyOf(replies))
+                .hasMoreReplies(hasMore)
+                .build();
+    }
+
+    private CommentResponse replaceReply(CommentResponse root, CommentResponse reply) {
+        List<CommentResponse> replies = root.getReplies().stream()
+                .map(r -> r.getId().equals(reply.getId()) ? reply : r)
+                .toList();
+        return root.toBuilder()
+                .replies(replies)
+                .build();
+    }
+
+    private CommentResponse removeReplies(CommentResponse root, String path, int replyPreviewSize) {
+        List<CommentResponse> replies = root.getReplies().stream()
+                .filter(r -> !Comment.isInSubtree(r.getPath(), path))
+                .toList();
+        if (replies.size() == root.getReplies().size()) {
+            return root;
+        }
+        if (replies.size() < replyPreviewSize && Boolean.TRUE.equals(root.getHasMoreReplies())) {
+            return null;
+        }
+        return root.toBuilder()
+                .replies(replies)
+                .build();
+    }
+
+    private boolean contains(CachedPage page, Long commentId) {
+        return page.getComments().stream().anyMatch(c -> c.getId().equals(commentId));
+    }
+}
@@ -8,49 +8,79 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증된 회원 정보 (요청 간 캐시되므로 엔티티 대신 필요한 값만 복사해서 보관)
+ * - 회원 정보로 만든 경우: 이름/닉네임/팀까지 포함
+ * - 토큰 클레임으로 만든 경우(조회 요청): memberId/로그인 ID/권한만 포함
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final Member member;
+    private final Long memberId;
+    private final String loginId;
+    private final String name;
+    private final String nickname;
+    private final String team;
+    private final Member.Authority authority;
+    private final boolean enabled;
 
     public CustomUserDetails(Member member) {
-        this.member = member;
+        this(member.getMemberId(), member.getId(), member.getName(), member.getNickname(), member.getTeam(),
+                member.getAuthority(), member.getDeletedAt() == null);
     }
 
-    public Member getMember() {
-        return member;
+    private CustomUserDetails(Long memberId, String loginId, String name, String nickname, String team,
+                              Member.Authority authority, boolean enabled) {
+        this.memberId = memberId;
+        this.loginId = loginId;
+        this.name = name;
+        this.nickname = nickname;
+        this.team = team;
+        this.authority = authority;
+        this.enabled = enabled;
+    }
+
+    // 토큰 클레임만으로 생성 (DB 조회 없음)
+    public static CustomUserDetails fromClaims(Long memberId, String loginId, String authority) {
+        return new CustomUserDetails(memberId, loginId, null, null, null,
+                Member.Authority.valueOf(authority.startsWith("ROLE_") ? authority.substring(5) : authority), true);
     }
 
     public Long getMemberId() {
-        return member.getMemberId();
+        return memberId;
     }
 
     public String getName() {
-        return member.getName();
+        return name;
     }
 
     public String getNickname() {
-        return member.getNickname();
+        return nickname;
     }
 
     public String getTeam() {
-        return member.getTeam();
+        return team;
+    }
+
+    public Member.Authority getAuthority() {
+        return authority;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // Member.Authority 을 ROLE 로 매핑
-        return Collections.singleton(() -> "ROLE_" + member.getAuthority().name());
+        return Collections.singleton(() -> "ROLE_" + authority.name());
     }
 
+    // 토큰 인증만 사용하므로 비밀번호는 보관하지 않음
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
         // 로그인 ID 반환
-        return member.getId();
+        return loginId;
     }
 
     @Override
@@ -71,6 +101,6 @@ public class CustomUserDetails implements UserDetails {
     // Soft Delete 처리: deletedAt이 null인 경우만 활성화
     @Override
     public boolean isEnabled() {
-        return member.getDeletedAt() == null;
+        return enabled;
     }
 }
@@ -1,41 +1,122 @@
 package com.ssafy.yammy.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ssafy.yammy.auth.entity.Member;
 import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
 
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 인증 회원 정보 조회
+ * - JWT 필터에서는 memberId 로 조회하고 결과를 짧게 로컬 캐시 (요청마다 DB 조회하지 않음)
+ * - 회원 정보 수정/탈퇴 시 커밋 후 캐시를 비우고, 다른 서버에는 Pub/Sub 으로 알림
+ * - 이때 회원 ID 를 액세스 토큰 유효 시간 동안 기억해서, 그 전에 발급된 토큰의 클레임만으로는 인증하지 않도록 함
+ */
 @Slf4j
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "auth:principal:invalidate";
 
     private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, CustomUserDetails> principalCache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    // 탈퇴/권한 등 회원 정보가 바뀐 회원 ID (이전 토큰이 모두 만료될 때까지만 보관)
+    private final Cache<Long, Boolean> claimsRevoked;
+
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    RedisMessageListenerContainer redisMessageListenerContainer,
+                                    @Value("${jwt.accessExpiration}") long accessTokenExpiration) {
         this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.claimsRevoked = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(accessTokenExpiration))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
     }
 
     @Override
     public UserDetails loadUserByUsername(String loginId) throws UsernameNotFoundException {
-        log.info("🔍 [UserDetailsService] 로그인 ID로 사용자 조회: {}", loginId);
-        
         // 로그인 ID로 회원 조회
         Member member = memberRepository.findById(loginId)
-                .orElseThrow(() -> {
-                    log.error("🚫 [UserDetailsService] 사용자 찾기 실패: {}", loginId);
-                    return new UsernameNotFoundException("User not found with login ID: " + loginId);
-                });
-
-        log.info("🚀 [UserDetailsService] 사용자 발견: {} (memberId: {}, nickname: {})", 
-                member.getId(), member.getMemberId(), member.getNickname());
-        
-        CustomUserDetails userDetails = new CustomUserDetails(member);
-        log.info("🎉 [UserDetailsService] CustomUserDetails 생성 완료");
-        
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with login ID: " + loginId));
+
+        log.debug("[UserDetailsService] 사용자 조회: loginId={}, memberId={}", loginId, member.getMemberId());
+        return new CustomUserDetails(member);
+    }
+
+    // memberId 로 조회 (캐시 → DB)
+    public CustomUserDetails loadUserByMemberId(Long memberId) throws UsernameNotFoundException {
+        CustomUserDetails userDetails = principalCache.get(memberId, id -> {
+            log.debug("[UserDetailsService] 인증 정보 캐시 미스, DB 조회: memberId={}", id);
+            return memberRepository.findById(id)
+                    .map(CustomUserDetails::new)
+                    .orElse(null);
+        });
+        if (userDetails == null) {
+            throw new UsernameNotFoundException("User not found with member ID: " + memberId);
+        }
         return userDetails;
     }
+
+    // 토큰 클레임을 그대로 믿으면 안 되는 회원인지 (최근 탈퇴/회원 정보 변경)
+    public boolean isClaimsRevoked(Long memberId) {
+        return claimsRevoked.getIfPresent(memberId) != null;
+    }
+
+    // 회원 정보 수정/탈퇴 시 (트랜잭션 중이면 커밋 후)
+    public void evict(Long memberId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            invalidate(memberId);
+            try {
+                stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(memberId));
+            } catch (Exception e) {
+                log.warn("[UserDetailsService] 인증 정보 캐시 무효화 알림 실패: memberId={}, error={}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지 처리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("[UserDetailsService] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    private void invalidate(Long memberId) {
+        claimsRevoked.put(memberId, Boolean.TRUE);
+        principalCache.invalidate(memberId);
+    }
 }
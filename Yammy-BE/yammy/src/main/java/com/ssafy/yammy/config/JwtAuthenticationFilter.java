@@ -1,19 +1,23 @@
 package com.ssafy.yammy.config;
 
+import com.ssafy.yammy.logging.filter.RequestLogContext;
+import com.ssafy.yammy.logging.filter.RequestLogContext.AuthResult;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -21,9 +25,12 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    // 토큰 클레임만으로 인증하는 조회 요청 (회원 정보 조회 없음)
+    private static final Set<String> READ_ONLY_METHODS = Set.of("GET", "HEAD");
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
     }
@@ -50,68 +57,81 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 path.startsWith("/v3/api-docs") ||
                 path.startsWith("/api/v1/webhook/") ||
                 path.equals("/favicon.ico")) {
-            log.info("🐈 [JWT 필터] 공개 경로 통과: {}", path);
+            RequestLogContext.recordAuth(request, AuthResult.PUBLIC, null);
             filterChain.doFilter(request, response);
             return;
         }
 
         String authHeader = request.getHeader("Authorization");
 
-        log.info("🐈 [JWT 필터] Path: {}, AuthHeader exists: {}", path, authHeader != null);
-        
-        if (authHeader != null) {
-            log.info("🐈 [JWT 필터] AuthHeader value: {}", authHeader.substring(0, Math.min(authHeader.length(), 50)) + "...");
-        }
-
         // Authorization 헤더 확인
+        // 요청 단위 로그는 RequestLogFilter 가 인증 결과를 포함해 한 줄로 기록 (여기서는 DEBUG 만)
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            log.info("🐈 [JWT 필터] Token extracted, length: {}", token.length());
 
             try {
-                if (jwtTokenProvider.validateToken(token)) {
-                    String loginId = jwtTokenProvider.getLoginId(token);
-                    log.info("🟢 [JWT 필터] Valid token for loginId: {}", loginId);
-
-                    // DB에서 UserDetails 조회 (로그인 ID 기반)
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(loginId);
-                    log.info("🟢 [JWT 필터] UserDetails loaded: {}", userDetails.getUsername());
-
-                    // SecurityContext에 인증 객체 저장
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.info("🟢 [JWT 필터] Authentication set in SecurityContext");
-                } else {
-                    // 토큰이 유효하지 않으면 401 반환 (프론트엔드의 자동 재발급 트리거)
-                    log.warn("🔴 [JWT 필터] Invalid or expired JWT token");
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.setContentType("application/json");
-                    response.setCharacterEncoding("UTF-8");
-                    response.getWriter().write("{\"error\":\"Invalid or expired token\"}");
-                    return;
-                }
+                // 검증과 클레임 추출을 한 번의 파싱으로
+                Claims claims = jwtTokenProvider.parseClaims(token);
+                CustomUserDetails userDetails = resolvePrincipal(request, claims);
+
+                // SecurityContext에 인증 객체 저장
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails,
+                                null,
+                                userDetails.getAuthorities()
+                        );
+
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("[JWT 필터] 인증 완료: path={}, memberId={}", path, userDetails.getMemberId());
+            } catch (JwtException | IllegalArgumentException e) {
+                // 토큰이 유효하지 않으면 401 반환 (프론트엔드의 자동 재발급 트리거)
+                RequestLogContext.recordAuth(request, AuthResult.INVALID_TOKEN, null);
+                log.debug("[JWT 필터] 유효하지 않은 토큰: path={}, error={}", path, e.getMessage());
+                writeUnauthorized(response, "Invalid or expired token");
+                return;
+            } catch (DisabledException e) {
+                // 탈퇴한 회원의 아직 만료되지 않은 토큰
+                RequestLogContext.recordAuth(request, AuthResult.DISABLED, null);
+                log.debug("[JWT 필터] 탈퇴한 회원의 토큰: path={}", path);
+                writeUnauthorized(response, "Account disabled");
+                return;
             } catch (Exception e) {
                 // 토큰 처리 중 예외 발생 시 401 반환
-                log.error("🔴 [JWT 필터] JWT token processing error", e);
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json");
-                response.setCharacterEncoding("UTF-8");
-                response.getWriter().write("{\"error\":\"Token processing error\"}");
+                RequestLogContext.recordAuth(request, AuthResult.ERROR, null);
+                log.warn("[JWT 필터] 토큰 처리 중 오류: path={}, error={}", path, e.toString());
+                writeUnauthorized(response, "Token processing error");
                 return;
             }
         } else {
-            log.warn("🔴 [JWT 필터] No valid Authorization header for path: {}", path);
+            RequestLogContext.recordAuth(request, AuthResult.ANONYMOUS, null);
         }
 
-        log.info("🟢 [JWT 필터] Filter chain continuing for path: {}", path);
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // 조회 요청은 토큰 클레임만으로, 변경 요청은 회원 정보(짧게 캐시)로 인증 객체 생성
+    // 최근 탈퇴/회원 정보가 바뀐 회원은 조회 요청이어도 회원 정보로 확인 (이전에 발급된 토큰의 권한을 그대로 믿지 않음)
+    private CustomUserDetails resolvePrincipal(HttpServletRequest request, Claims claims) {
+        Long memberId = jwtTokenProvider.getMemberId(claims);
+        if (READ_ONLY_METHODS.contains(request.getMethod()) && !userDetailsService.isClaimsRevoked(memberId)) {
+            RequestLogContext.recordAuth(request, AuthResult.CLAIMS, memberId);
+            return CustomUserDetails.fromClaims(memberId, claims.getSubject(), (String) claims.get("authority"));
+        }
+        CustomUserDetails userDetails = userDetailsService.loadUserByMemberId(memberId);
+        if (!userDetails.isEnabled()) {
+            throw new DisabledException("탈퇴한 회원입니다: memberId=" + memberId);
+        }
+        RequestLogContext.recordAuth(request, AuthResult.PRINCIPAL, memberId);
+        return userDetails;
+    }
+
+    private void writeUnauthorized(HttpServletResponse response, String error) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"error\":\"" + error + "\"}");
+    }
+}
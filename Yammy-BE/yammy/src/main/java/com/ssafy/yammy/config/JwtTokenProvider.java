@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenProvider {
 
     private final Key key;
+    private final JwtParser jwtParser;  // 불변 객체라 요청마다 새로 만들지 않고 재사용
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -32,6 +34,7 @@ public class JwtTokenProvider {
 
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // Access Token 생성 (로그인 ID 기반)
@@ -63,7 +66,7 @@ public class JwtTokenProvider {
     // JWT 토큰 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             log.warn("Invalid JWT: {}", e.getMessage());
@@ -83,15 +86,21 @@ public class JwtTokenProvider {
 
     // 토큰에서 Member ID 추출
     public Long getMemberId(String token) {
-        return ((Number) getClaims(token).get("memberId")).longValue();
+        return getMemberId(getClaims(token));
+    }
+
+    // 토큰 검증 + 클레임 추출을 한 번의 파싱으로 (유효하지 않으면 JwtException)
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    // 클레임에서 Member ID 추출
+    public Long getMemberId(Claims claims) {
+        return ((Number) claims.get("memberId")).longValue();
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        return parseClaims(token);
     }
 
     // 만료된 토큰에서 로그인 ID 추출 (리프레시 시 사용)
@@ -1,18 +1,104 @@
 package com.ssafy.yammy.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 @Configuration
 public class KafkaConfig {
 
+    public static final String CHAT_TOPIC = "chat-messages";
+    public static final String CHAT_RETRY_TOPIC = "chat-messages.retry";
+    public static final String CHAT_DLT_TOPIC = "chat-messages.DLT";
+
+    public static final String CHAT_BATCH_LISTENER_FACTORY = "chatBatchListenerContainerFactory";
+    public static final String CHAT_RETRY_LISTENER_FACTORY = "chatRetryListenerContainerFactory";
+
     @Bean
     public NewTopic chatTopic() {
-        return TopicBuilder.name("chat-messages")
+        return TopicBuilder.name(CHAT_TOPIC)
                 .partitions(3)      // 병렬 처리 3개
                 .replicas(1)        // 로컬: 1, 운영: 3
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public NewTopic chatRetryTopic() {
+        return TopicBuilder.name(CHAT_RETRY_TOPIC)
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic chatDltTopic() {
+        return TopicBuilder.name(CHAT_DLT_TOPIC)
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 채팅 메시지 배치 소비용 컨테이너
+     * - poll 한 레코드를 한 번에 넘겨서 Firestore WriteBatch 로 묶어 저장
+     * - 리스너가 끝난 뒤 배치 단위로 오프셋 커밋
+     * - 리스너가 예외를 던지면 배치를 지수 백오프로 다시 처리하다가, 끝내 실패하면 배치의 레코드를 DLT 로 보내고 진행
+     *   (기본 에러 핸들러는 로그만 남기고 오프셋을 넘기므로 메시지가 유실됨)
+     */
+    @Bean(name = CHAT_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> chatBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${chat.consumer.retry.initial-interval-ms:1000}") long initialIntervalMs,
+            @Value("${chat.consumer.retry.max-elapsed-ms:30000}") long maxElapsedMs) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(3);  // 파티션 수와 동일
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate, initialIntervalMs, maxElapsedMs));
+        return factory;
+    }
+
+    /**
+     * 저장 실패한 채팅 메시지 재시도용 컨테이너
+     * - 메인 토픽은 실패 메시지를 retry 토픽으로 넘기고 계속 소비 (재시도 대기로 메인 파티션이 멈추지 않음)
+     * - 지수 백오프로 재시도하다가 끝내 실패하면 DLT 로 보냄 (같은 파티션 유지)
+     */
+    @Bean(name = CHAT_RETRY_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> chatRetryListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${chat.consumer.retry.initial-interval-ms:1000}") long initialIntervalMs,
+            @Value("${chat.consumer.retry.max-elapsed-ms:30000}") long maxElapsedMs) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate, initialIntervalMs, maxElapsedMs));
+        return factory;
+    }
+
+    // 지수 백오프 재시도 후 chat-messages.DLT 로 보내는 에러 핸들러 (같은 파티션 유지)
+    // 역직렬화 실패처럼 재시도해도 같은 결과인 예외는 바로 DLT 로 보냄 (DefaultErrorHandler 기본 동작)
+    // 배치 리스너는 BatchListenerFailedException 으로 실패한 레코드 위치를 알려줌 → 앞쪽은 커밋, 그 레코드만 DLT, 뒤쪽은 다시 받음
+    private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<Object, Object> kafkaTemplate,
+                                                       long initialIntervalMs, long maxElapsedMs) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(CHAT_DLT_TOPIC, record.partition()));
+        ExponentialBackOff backOff = new ExponentialBackOff(initialIntervalMs, 2.0);
+        backOff.setMaxElapsedTime(maxElapsedMs);
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+}
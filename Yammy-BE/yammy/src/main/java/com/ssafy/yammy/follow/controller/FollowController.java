@@ -1,22 +1,22 @@
  package com.ssafy.yammy.follow.controller;
 
 import com.ssafy.yammy.config.CustomUserDetails;
-import com.ssafy.yammy.follow.dto.FollowListResponse;
+import com.ssafy.yammy.follow.dto.FollowPageResponse;
+import com.ssafy.yammy.follow.dto.FollowRecommendationResponse;
 import com.ssafy.yammy.follow.dto.FollowResponse;
 import com.ssafy.yammy.follow.dto.FollowStatusResponse;
+import com.ssafy.yammy.follow.service.FollowRecommendationService;
 import com.ssafy.yammy.follow.service.FollowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/follows")
@@ -25,6 +25,10 @@ import org.springframework.web.bind.annotation.*;
 public class FollowController {
 
     private final FollowService followService;
+    private final FollowRecommendationService followRecommendationService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RECOMMENDATION_SIZE = 30;
 
     /**
      * 팔로우
@@ -62,19 +66,18 @@ public class FollowController {
      * 팔로워 목록 (나를 팔로우한 사람들)
      */
     @GetMapping("/followers/{memberId}")
-    @Operation(summary = "팔로워 목록", description = "특정 회원의 팔로워 목록을 조회합니다. (무한 스크롤)")
-    public ResponseEntity<Page<FollowListResponse>> getFollowers(
+    @Operation(summary = "팔로워 목록", description = "특정 회원의 팔로워 목록을 조회합니다. (커서 기반 무한 스크롤)")
+    public ResponseEntity<FollowPageResponse> getFollowers(
             @PathVariable Long memberId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal(errorOnInvalidType = false) CustomUserDetails userDetails) {
 
         Long currentMemberId = userDetails != null ? userDetails.getMemberId() : null;
-        log.info("[FollowController] GET /api/follows/followers/{} - currentMemberId: {}, page: {}, size: {}",
-                memberId, currentMemberId, page, size);
+        log.info("[FollowController] GET /api/follows/followers/{} - currentMemberId: {}, cursor: {}, size: {}",
+                memberId, currentMemberId, cursor, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<FollowListResponse> followers = followService.getFollowers(memberId, currentMemberId, pageable);
+        FollowPageResponse followers = followService.getFollowers(memberId, currentMemberId, cursor, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
 
         return ResponseEntity.ok(followers);
     }
@@ -83,19 +86,18 @@ public class FollowController {
      * 팔로잉 목록 (내가 팔로우한 사람들)
      */
     @GetMapping("/following/{memberId}")
-    @Operation(summary = "팔로잉 목록", description = "특정 회원의 팔로잉 목록을 조회합니다. (무한 스크롤)")
-    public ResponseEntity<Page<FollowListResponse>> getFollowing(
+    @Operation(summary = "팔로잉 목록", description = "특정 회원의 팔로잉 목록을 조회합니다. (커서 기반 무한 스크롤)")
+    public ResponseEntity<FollowPageResponse> getFollowing(
             @PathVariable Long memberId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal(errorOnInvalidType = false) CustomUserDetails userDetails) {
 
         Long currentMemberId = userDetails != null ? userDetails.getMemberId() : null;
-        log.info("[FollowController] GET /api/follows/following/{} - currentMemberId: {}, page: {}, size: {}",
-                memberId, currentMemberId, page, size);
+        log.info("[FollowController] GET /api/follows/following/{} - currentMemberId: {}, cursor: {}, size: {}",
+                memberId, currentMemberId, cursor, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<FollowListResponse> following = followService.getFollowing(memberId, currentMemberId, pageable);
+        FollowPageResponse following = followService.getFollowing(memberId, currentMemberId, cursor, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
 
         return ResponseEntity.ok(following);
     }
@@ -115,4 +117,21 @@ public class FollowController {
         FollowStatusResponse status = followService.getFollowStatus(followerId, memberId);
         return ResponseEntity.ok(status);
     }
+
+    /**
+     * 알 수도 있는 사람 (팔로우 추천)
+     */
+    @GetMapping("/recommendations")
+    @Operation(summary = "팔로우 추천", description = "내가 팔로우하는 사람들이 팔로우하는 회원을 함께 아는 사람 수와 응원팀 기준으로 추천합니다.")
+    public ResponseEntity<List<FollowRecommendationResponse>> getRecommendations(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Long memberId = userDetails.getMemberId();
+        log.info("[FollowController] GET /api/follows/recommendations - memberId: {}, size: {}", memberId, size);
+
+        List<FollowRecommendationResponse> recommendations = followRecommendationService.getRecommendations(
+                memberId, Math.min(Math.max(size, 1), MAX_RECOMMENDATION_SIZE));
+        return ResponseEntity.ok(recommendations);
+    }
 }
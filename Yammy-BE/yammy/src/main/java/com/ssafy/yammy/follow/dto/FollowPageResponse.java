@@ -0,0 +1,16 @@
+package com.ssafy.yammy.follow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class FollowPageResponse {
+    private List<FollowListResponse> follows;
+    private Long nextCursor;  // 다음 페이지의 커서 (마지막 팔로우 ID)
+    private Boolean hasNext;  // 다음 페이지 존재 여부
+}
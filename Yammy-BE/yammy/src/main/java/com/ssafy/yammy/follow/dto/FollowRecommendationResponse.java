@@ -0,0 +1,14 @@
+package com.ssafy.yammy.follow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FollowRecommendationResponse {
+    private Long memberId;
+    private String nickname;
+    private String profileImage;
+    private String team;
+    private Integer mutualCount;  // 함께 아는 사람 수 (내가 팔로우하는 사람 중 이 사람을 팔로우하는 사람)
+}
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "follow",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "following_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "following_id"}),
+        indexes = {
+                @Index(name = "idx_follow_follower_id_id", columnList = "follower_id, id"),
+                @Index(name = "idx_follow_following_id_id", columnList = "following_id, id")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,43 @@
+package com.ssafy.yammy.follow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 추천 팔로우 (알 수도 있는 사람)
+ * - 배치에서 친구의 친구를 점수 순으로 계산해 회원별 상위 N명만 저장
+ */
+@Entity
+@Table(name = "follow_recommendation",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "candidate_id"}),
+        indexes = @Index(name = "idx_follow_recommendation_member_id_ranking", columnList = "member_id, ranking"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FollowRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;      // 추천을 받는 회원
+
+    @Column(name = "candidate_id", nullable = false)
+    private Long candidateId;   // 추천 대상 회원
+
+    @Column(name = "mutual_count", nullable = false)
+    private Integer mutualCount;  // 함께 아는 사람 수 (내가 팔로우하는 사람 중 추천 대상을 팔로우하는 사람)
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(nullable = false)
+    private Integer ranking;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
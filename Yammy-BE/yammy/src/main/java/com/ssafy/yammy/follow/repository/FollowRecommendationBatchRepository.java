@@ -0,0 +1,12 @@
+package com.ssafy.yammy.follow.repository;
+
+import com.ssafy.yammy.follow.entity.FollowRecommendation;
+
+import java.util.List;
+
+// FollowRecommendation 일괄 저장 (IDENTITY 전략이라 Hibernate 배치가 동작하지 않아 JDBC로 직접 처리)
+public interface FollowRecommendationBatchRepository {
+
+    // 여러 추천을 multi-row INSERT 로 저장 (이미 있으면 값만 갱신)
+    void upsertAll(List<FollowRecommendation> recommendations);
+}
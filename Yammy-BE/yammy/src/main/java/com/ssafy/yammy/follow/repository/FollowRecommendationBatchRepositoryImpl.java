@@ -0,0 +1,47 @@
+package com.ssafy.yammy.follow.repository;
+
+import com.ssafy.yammy.follow.entity.FollowRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FollowRecommendationBatchRepositoryImpl implements FollowRecommendationBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO follow_recommendation (member_id, candidate_id, mutual_count, score, ranking, created_at) VALUES ";
+    private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String ON_DUPLICATE =
+            " ON DUPLICATE KEY UPDATE mutual_count = VALUES(mutual_count), score = VALUES(score), " +
+            "ranking = VALUES(ranking), created_at = VALUES(created_at)";
+
+    // 플레이스홀더 수 제한(65535)을 넘지 않도록 나눠서 INSERT
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    @Override
+    public void upsertAll(List<FollowRecommendation> recommendations) {
+        for (int from = 0; from < recommendations.size(); from += ROWS_PER_STATEMENT) {
+            List<FollowRecommendation> chunk = recommendations.subList(from, Math.min(from + ROWS_PER_STATEMENT, recommendations.size()));
+
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), VALUES_PLACEHOLDER)) + ON_DUPLICATE;
+
+            List<Object> args = new ArrayList<>(chunk.size() * 6);
+            for (FollowRecommendation recommendation : chunk) {
+                args.add(recommendation.getMemberId());
+                args.add(recommendation.getCandidateId());
+                args.add(recommendation.getMutualCount());
+                args.add(recommendation.getScore());
+                args.add(recommendation.getRanking());
+                args.add(Timestamp.valueOf(recommendation.getCreatedAt()));
+            }
+
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
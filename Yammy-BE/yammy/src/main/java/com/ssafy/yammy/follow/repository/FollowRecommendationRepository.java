@@ -0,0 +1,28 @@
+package com.ssafy.yammy.follow.repository;
+
+import com.ssafy.yammy.follow.entity.FollowRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FollowRecommendationRepository extends JpaRepository<FollowRecommendation, Long>, FollowRecommendationBatchRepository {
+
+    // 회원의 추천 목록 (순위순)
+    List<FollowRecommendation> findByMemberIdOrderByRankingAsc(Long memberId);
+
+    // 회원 ID 구간에서 이번 배치에 다시 저장되지 않은 추천 삭제 (추천 대상이 바뀌었거나 탈퇴한 회원)
+    @Modifying
+    @Query("DELETE FROM FollowRecommendation r WHERE r.memberId > :fromId AND r.memberId <= :toId AND r.createdAt < :builtAt")
+    int deleteStale(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("builtAt") LocalDateTime builtAt);
+
+    // 탈퇴 회원 관련 추천 삭제
+    @Modifying
+    @Query("DELETE FROM FollowRecommendation r WHERE r.memberId = :memberId OR r.candidateId = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
+}
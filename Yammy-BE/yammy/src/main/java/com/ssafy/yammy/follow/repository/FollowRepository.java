@@ -1,9 +1,9 @@
 package com.ssafy.yammy.follow.repository;
 
 import com.ssafy.yammy.follow.entity.Follow;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,11 +20,40 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 특정 팔로우 관계 찾기
     Optional<Follow> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
 
-    // 팔로워 목록 (나를 팔로우한 사람들) - 페이징
-    Page<Follow> findByFollowingId(Long followingId, Pageable pageable);
+    // 팔로워 목록 (나를 팔로우한 사람들) - 최신순, 커서 기반 페이징
+    // 커서 유무에 따라 쿼리를 분리해 (following_id, id) 인덱스 범위 검색을 사용
+    default List<Follow> findFollowersWithCursor(Long followingId, Long cursor, Pageable pageable) {
+        return cursor == null ? findFollowers(followingId, pageable) : findFollowersBefore(followingId, cursor, pageable);
+    }
 
-    // 팔로잉 목록 (내가 팔로우한 사람들) - 페이징
-    Page<Follow> findByFollowerId(Long followerId, Pageable pageable);
+    @Query("SELECT f FROM Follow f WHERE f.followingId = :followingId ORDER BY f.id DESC")
+    List<Follow> findFollowers(@Param("followingId") Long followingId, Pageable pageable);
+
+    @Query("SELECT f FROM Follow f WHERE f.followingId = :followingId AND f.id < :cursor ORDER BY f.id DESC")
+    List<Follow> findFollowersBefore(@Param("followingId") Long followingId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 팔로잉 목록 (내가 팔로우한 사람들) - 최신순, 커서 기반 페이징 ((follower_id, id) 인덱스)
+    default List<Follow> findFollowingsWithCursor(Long followerId, Long cursor, Pageable pageable) {
+        return cursor == null ? findFollowings(followerId, pageable) : findFollowingsBefore(followerId, cursor, pageable);
+    }
+
+    @Query("SELECT f FROM Follow f WHERE f.followerId = :followerId ORDER BY f.id DESC")
+    List<Follow> findFollowings(@Param("followerId") Long followerId, Pageable pageable);
+
+    @Query("SELECT f FROM Follow f WHERE f.followerId = :followerId AND f.id < :cursor ORDER BY f.id DESC")
+    List<Follow> findFollowingsBefore(@Param("followerId") Long followerId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 팔로워 ID 목록 (타임라인 fan-out 용)
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followingId = :followingId")
+    List<Long> findFollowerIdsByFollowingId(@Param("followingId") Long followingId);
+
+    // 팔로잉 ID 목록 (피드 구성용)
+    @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :followerId")
+    List<Long> findFollowingIdsByFollowerId(@Param("followerId") Long followerId);
+
+    // 팔로우 관계 전체 순회 (ID 순, 팔로우 그래프 인덱스 적재용)
+    @Query("SELECT f.id, f.followerId, f.followingId FROM Follow f WHERE f.id > :afterId ORDER BY f.id")
+    List<Object[]> findEdgesAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     // 팔로워 수
     long countByFollowingId(Long followingId);
@@ -32,8 +61,15 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 팔로잉 수
     long countByFollowerId(Long followerId);
 
-    // 언팔로우
-    void deleteByFollowerIdAndFollowingId(Long followerId, Long followingId);
+    // 탈퇴 회원의 팔로우/팔로워 관계 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerId = :memberId OR f.followingId = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    // 언팔로우 (조회 없이 바로 삭제, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerId = :followerId AND f.followingId = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 
     // 배치 조회: 특정 사용자가 여러 사용자를 팔로우하고 있는지 확인
     @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :followerId AND f.followingId IN :followingIds")
@@ -0,0 +1,28 @@
+package com.ssafy.yammy.follow.scheduler;
+
+import com.ssafy.yammy.follow.service.FollowRecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 새벽 5시 팔로우 추천(알 수도 있는 사람) 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowRecommendationScheduler {
+
+    private final FollowRecommendationService followRecommendationService;
+
+    @Scheduled(cron = "${follow.recommendation.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        try {
+            log.info("Scheduler - follow recommendation rebuild starting");
+            followRecommendationService.rebuild();
+        } catch (Exception e) {
+            log.error("Scheduler - follow recommendation rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
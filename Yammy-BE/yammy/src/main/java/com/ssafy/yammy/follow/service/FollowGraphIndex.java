@@ -0,0 +1,218 @@
+package com.ssafy.yammy.follow.service;
+
+import com.ssafy.yammy.follow.repository.FollowRepository;
+import com.ssafy.yammy.global.util.ReplicatedIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로우 그래프 메모리 인덱스
+ * - 회원별 팔로잉 ID 를 정렬된 long[] 로 보관해 팔로우 여부를 SQL 없이 이진 탐색으로 확인
+ * - 서버 시작 시 follow 테이블 전체를 적재하고, 팔로우/언팔로우는 커밋 후 바로 반영
+ * - 다른 서버에는 Redis Pub/Sub 으로 변경 이벤트를 전달하고, 유실 대비로 주기적으로 다시 적재
+ * - 적재 전이거나 적재에 실패하면 기존처럼 DB 조회
+ */
+@Slf4j
+@Component
+public class FollowGraphIndex {
+
+    private final FollowRepository followRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String EVENT_CHANNEL = "follow:graph:events";
+    private static final String FOLLOW = "F";
+    private static final String UNFOLLOW = "U";
+    private static final String WITHDRAW = "W";
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final long[] EMPTY = new long[0];
+
+    // 팔로워 ID -> 팔로잉 ID (오름차순 정렬, 변경 시 새 배열로 교체), 적재/이벤트 동기화는 ReplicatedIndex
+    private final ReplicatedIndex<ConcurrentHashMap<Long, long[]>> index;
+
+    public FollowGraphIndex(FollowRepository followRepository, StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.followRepository = followRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.index = new ReplicatedIndex<>("FollowGraphIndex", EVENT_CHANNEL, stringRedisTemplate,
+                new ConcurrentHashMap<>(), this::load, this::apply);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        index.subscribe(redisMessageListenerContainer);
+    }
+
+    // 팔로우 여부
+    public boolean isFollowing(Long followerId, Long followingId) {
+        if (!index.isReady()) {
+            return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+        }
+        return Arrays.binarySearch(index.current().getOrDefault(followerId, EMPTY), followingId) >= 0;
+    }
+
+    // candidateIds 중 followerId 가 팔로우하는 회원만
+    public Set<Long> filterFollowing(Long followerId, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        if (!index.isReady()) {
+            return new HashSet<>(followRepository.findFollowingIdsByFollowerIdAndFollowingIds(followerId, new ArrayList<>(candidateIds)));
+        }
+
+        long[] targets = index.current().getOrDefault(followerId, EMPTY);
+        Set<Long> result = new HashSet<>();
+        for (Long candidateId : candidateIds) {
+            if (Arrays.binarySearch(targets, candidateId) >= 0) {
+                result.add(candidateId);
+            }
+        }
+        return result;
+    }
+
+    // 팔로잉 ID 목록
+    public List<Long> getFollowingIds(Long followerId) {
+        if (!index.isReady()) {
+            return followRepository.findFollowingIdsByFollowerId(followerId);
+        }
+        long[] targets = index.current().getOrDefault(followerId, EMPTY);
+        List<Long> result = new ArrayList<>(targets.length);
+        for (long target : targets) {
+            result.add(target);
+        }
+        return result;
+    }
+
+    boolean isReady() {
+        return index.isReady();
+    }
+
+    // 현재 인덱스 (배열은 변경 시 새로 교체되므로 읽기 전용으로만 사용)
+    Map<Long, long[]> snapshot() {
+        return Collections.unmodifiableMap(index.current());
+    }
+
+    // 팔로우/언팔로우/탈퇴 반영 (트랜잭션 중이면 커밋 후)
+    public void onFollowed(Long followerId, Long followingId) {
+        index.publishAfterCommit(FOLLOW, followerId, String.valueOf(followingId));
+    }
+
+    public void onUnfollowed(Long followerId, Long followingId) {
+        index.publishAfterCommit(UNFOLLOW, followerId, String.valueOf(followingId));
+    }
+
+    public void onMemberWithdrawn(Long memberId) {
+        index.publishAfterCommit(WITHDRAW, memberId, String.valueOf(memberId));
+    }
+
+    // 서버 시작 시 적재 + 주기적 재적재 (Pub/Sub 유실 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${follow.graph.reload-interval-ms:1800000}",
+            initialDelayString = "${follow.graph.reload-interval-ms:1800000}")
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        ConcurrentHashMap<Long, long[]> loaded = index.reload();
+        if (loaded != null) {
+            log.info("[FollowGraphIndex] 팔로우 그래프 적재 완료: members={}, elapsedMs={}",
+                    loaded.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private void apply(ConcurrentHashMap<Long, long[]> target, String[] event) {
+        long followerId = Long.parseLong(event[1]);
+        long followingId = Long.parseLong(event[2]);
+        switch (event[0]) {
+            case FOLLOW -> target.compute(followerId, (id, targets) -> insert(targets, followingId));
+            case UNFOLLOW -> target.computeIfPresent(followerId, (id, targets) -> remove(targets, followingId));
+            case WITHDRAW -> {
+                target.remove(followerId);
+                for (Long id : target.keySet()) {
+                    target.computeIfPresent(id, (key, targets) -> remove(targets, followerId));
+                }
+            }
+            default -> log.warn("[FollowGraphIndex] 알 수 없는 이벤트: {}", event[0]);
+        }
+    }
+
+    // follow 테이블 전체를 ID 순으로 나눠 읽어서 인덱스 생성
+    private ConcurrentHashMap<Long, long[]> load() {
+        Map<Long, long[]> buffers = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = followRepository.findEdgesAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                long followerId = (Long) row[1];
+                long followingId = (Long) row[2];
+
+                int size = sizes.getOrDefault(followerId, 0);
+                long[] buffer = buffers.get(followerId);
+                if (buffer == null) {
+                    buffer = new long[4];
+                } else if (buffer.length == size) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size] = followingId;
+                buffers.put(followerId, buffer);
+                sizes.put(followerId, size + 1);
+            }
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        ConcurrentHashMap<Long, long[]> loaded = new ConcurrentHashMap<>(buffers.size() * 2);
+        buffers.forEach((followerId, buffer) -> {
+            long[] targets = Arrays.copyOf(buffer, sizes.get(followerId));
+            Arrays.sort(targets);
+            loaded.put(followerId, targets);
+        });
+        return loaded;
+    }
+
+    private static long[] insert(long[] targets, long value) {
+        if (targets == null) {
+            return new long[]{value};
+        }
+        int index = Arrays.binarySearch(targets, value);
+        if (index >= 0) {
+            return targets;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[targets.length + 1];
+        System.arraycopy(targets, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(targets, insertAt, result, insertAt + 1, targets.length - insertAt);
+        return result;
+    }
+
+    // 비게 되면 null 을 반환해 항목 자체를 제거
+    private static long[] remove(long[] targets, long value) {
+        int index = Arrays.binarySearch(targets, value);
+        if (index < 0) {
+            return targets;
+        }
+        if (targets.length == 1) {
+            return null;
+        }
+        long[] result = new long[targets.length - 1];
+        System.arraycopy(targets, 0, result, 0, index);
+        System.arraycopy(targets, index + 1, result, index, targets.length - index - 1);
+        return result;
+    }
+}
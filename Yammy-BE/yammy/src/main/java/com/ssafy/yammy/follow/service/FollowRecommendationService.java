@@ -0,0 +1,319 @@
+package com.ssafy.yammy.follow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.yammy.auth.entity.Member;
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.follow.dto.FollowRecommendationResponse;
+import com.ssafy.yammy.follow.entity.FollowRecommendation;
+import com.ssafy.yammy.follow.repository.FollowRecommendationRepository;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알 수도 있는 사람 (친구의 친구 추천)
+ * - 내가 팔로우하는 사람들이 팔로우하는 회원을 함께 아는 사람 수로 점수를 매기고, 같은 응원팀이면 가중치를 줌
+ * - 배치에서 팔로우 그래프 메모리 인덱스를 회원 구간별로 나눠 ForkJoin 으로 병렬 계산 후 회원별 상위 N명만 저장
+ * - 조회는 로컬 캐시에서 하고, 배치 이후 새로 팔로우한 회원은 조회 시점에 제외
+ * - 회원이 탈퇴하면 다른 회원 추천 목록의 후보로도 남아 있을 수 있으므로 커밋 후 모든 서버의 캐시를 비움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowRecommendationService implements MessageListener {
+
+    private final FollowRecommendationRepository followRecommendationRepository;
+    private final MemberRepository memberRepository;
+    private final FollowGraphIndex followGraphIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String INVALIDATION_CHANNEL = "follow:recommendation:invalidate";
+
+    @Value("${follow.recommendation.top-n:30}")
+    private int topN;
+
+    @Value("${follow.recommendation.team-weight:1.5}")
+    private double teamWeight;
+
+    // 한 트랜잭션에서 교체하는 회원 수
+    private static final int PARTITION_SIZE = 1000;
+
+    // ForkJoin 작업을 더 나누지 않는 회원 수
+    private static final int SPLIT_THRESHOLD = 64;
+
+    // 팔로잉이 이보다 많은 회원은 2촌 후보를 만들 때 건너뜀 (대량 팔로우 계정으로 후보가 폭증하는 것 방지)
+    private static final int MAX_FAN_OUT = 5000;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    // 회원별 추천 목록 (조회자와 무관한 부분만, 순위순)
+    private final Cache<Long, List<FollowRecommendationResponse>> recommendationCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    /**
+     * 추천 목록 조회
+     */
+    public List<FollowRecommendationResponse> getRecommendations(Long memberId, int size) {
+        List<FollowRecommendationResponse> recommendations = recommendationCache.get(memberId, this::loadRecommendations);
+        if (recommendations.isEmpty()) {
+            return recommendations;
+        }
+
+        // 배치 이후에 팔로우한 회원 제외
+        Set<Long> followed = followGraphIndex.filterFollowing(memberId, recommendations.stream()
+                .map(FollowRecommendationResponse::getMemberId)
+                .collect(Collectors.toList()));
+
+        return recommendations.stream()
+                .filter(r -> !followed.contains(r.getMemberId()))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 탈퇴 회원 관련 추천 삭제 (호출한 트랜잭션 안에서)
+     */
+    public int onMemberWithdrawn(Long memberId) {
+        int deleted = followRecommendationRepository.deleteAllByMemberId(memberId);
+
+        // 탈퇴 회원이 후보로 들어 있는 다른 회원의 캐시도 비워야 하므로 전체 무효화 (탈퇴는 드물어 캐시 재적재 비용이 작음)
+        // 커밋 전에 비우면 다른 요청이 삭제 전 추천을 다시 캐싱할 수 있으므로 커밋 후에
+        TransactionCallbacks.runAfterCommit(() -> {
+            recommendationCache.invalidateAll();
+            publishInvalidation(memberId);
+        });
+        return deleted;
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지 처리 (형식: {nodeId}:{memberId})
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        recommendationCache.invalidateAll();
+    }
+
+    /**
+     * 전체 회원 추천 재계산
+     */
+    public void rebuild() {
+        if (!followGraphIndex.isReady()) {
+            log.warn("[FollowRecommendationService] 팔로우 그래프 적재 전이라 추천 재계산을 건너뜀");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime builtAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        Map<Long, long[]> graph = followGraphIndex.snapshot();
+        Map<Long, String> teams = new HashMap<>();
+        for (Object[] row : memberRepository.findActiveMemberTeams()) {
+            teams.put((Long) row[0], (String) row[1]);
+        }
+        long[] memberIds = teams.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        // 회원 ID 구간별로 계산 → 저장 → 구간에서 이번에 저장되지 않은 추천 삭제
+        int total = 0;
+        long fromId = 0;
+        for (int from = 0; from < memberIds.length; from += PARTITION_SIZE) {
+            int to = Math.min(from + PARTITION_SIZE, memberIds.length);
+            long toId = to == memberIds.length ? Long.MAX_VALUE : memberIds[to - 1];
+
+            List<FollowRecommendation> recommendations = forkJoinPool.invoke(
+                    new RecommendTask(memberIds, from, to, graph, teams, builtAt));
+
+            long rangeFrom = fromId;
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    followRecommendationRepository.upsertAll(recommendations);
+                    followRecommendationRepository.deleteStale(rangeFrom, toId, builtAt);
+                });
+                total += recommendations.size();
+            } catch (Exception e) {
+                // 실패한 구간은 이전 추천을 그대로 두고 다음 배치에서 다시 계산
+                log.warn("[FollowRecommendationService] 추천 저장 실패: memberId {} ~ {}, error={}", rangeFrom, toId, e.getMessage());
+            }
+            fromId = toId;
+        }
+
+        recommendationCache.invalidateAll();
+        log.info("[FollowRecommendationService] 추천 재계산 완료: members={}, recommendations={}, elapsedMs={}",
+                memberIds.length, total, System.currentTimeMillis() - startedAt);
+    }
+
+    private void publishInvalidation(Long memberId) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + memberId);
+        } catch (Exception e) {
+            log.warn("[FollowRecommendationService] 추천 캐시 무효화 알림 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    private List<FollowRecommendationResponse> loadRecommendations(Long memberId) {
+        List<FollowRecommendation> recommendations = followRecommendationRepository.findByMemberIdOrderByRankingAsc(memberId);
+        if (recommendations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> memberMap = memberRepository.findAllById(recommendations.stream()
+                        .map(FollowRecommendation::getCandidateId)
+                        .collect(Collectors.toList())).stream()
+                .filter(m -> m.getDeletedAt() == null)
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        return recommendations.stream()
+                .filter(r -> memberMap.containsKey(r.getCandidateId()))
+                .map(r -> {
+                    Member member = memberMap.get(r.getCandidateId());
+                    return new FollowRecommendationResponse(
+                            member.getMemberId(),
+                            member.getNickname(),
+                            member.getProfileImage(),
+                            member.getTeam(),
+                            r.getMutualCount()
+                    );
+                })
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    // 회원 한 명의 추천 계산 (함께 아는 사람 수 × 같은 팀 가중치, 상위 N명)
+    private List<FollowRecommendation> recommend(long memberId, Map<Long, long[]> graph, Map<Long, String> teams,
+                                                 LocalDateTime builtAt) {
+        long[] followings = graph.getOrDefault(memberId, EMPTY);
+        if (followings.length == 0) {
+            return List.of();
+        }
+
+        Map<Long, int[]> mutualCounts = new HashMap<>();
+        for (long followingId : followings) {
+            long[] secondDegree = graph.getOrDefault(followingId, EMPTY);
+            if (secondDegree.length > MAX_FAN_OUT) {
+                continue;
+            }
+            for (long candidateId : secondDegree) {
+                if (candidateId == memberId || Arrays.binarySearch(followings, candidateId) >= 0) {
+                    continue;
+                }
+                mutualCounts.computeIfAbsent(candidateId, id -> new int[1])[0]++;
+            }
+        }
+
+        String team = teams.get(memberId);
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+        // 점수가 가장 낮은 항목이 맨 앞에 오는 크기 N 의 힙
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(topN + 1, byScore);
+        mutualCounts.forEach((candidateId, count) -> {
+            String candidateTeam = teams.get(candidateId);
+            if (candidateTeam == null) {
+                return; // 탈퇴 회원
+            }
+            double score = count[0] * (candidateTeam.equals(team) ? teamWeight : 1.0);
+            top.add(Map.entry(candidateId, score));
+            if (top.size() > topN) {
+                top.poll();
+            }
+        });
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(byScore.reversed());
+
+        List<FollowRecommendation> result = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            Long candidateId = ranked.get(i).getKey();
+            result.add(FollowRecommendation.builder()
+                    .memberId(memberId)
+                    .candidateId(candidateId)
+                    .mutualCount(mutualCounts.get(candidateId)[0])
+                    .score(ranked.get(i).getValue())
+                    .ranking(i + 1)
+                    .createdAt(builtAt)
+                    .build());
+        }
+        return result;
+    }
+
+    // 회원 구간을 절반씩 나눠 병렬 계산
+    private class RecommendTask extends RecursiveTask<List<FollowRecommendation>> {
+
+        private final long[] memberIds;
+        private final int from;
+        private final int to;
+        private final Map<Long, long[]> graph;
+        private final Map<Long, String> teams;
+        private final LocalDateTime builtAt;
+
+        RecommendTask(long[] memberIds, int from, int to, Map<Long, long[]> graph, Map<Long, String> teams,
+                      LocalDateTime builtAt) {
+            this.memberIds = memberIds;
+            this.from = from;
+            this.to = to;
+            this.graph = graph;
+            this.teams = teams;
+            this.builtAt = builtAt;
+        }
+
+        @Override
+        protected List<FollowRecommendation> compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                List<FollowRecommendation> result = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    result.addAll(recommend(memberIds[i], graph, teams, builtAt));
+                }
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            RecommendTask left = new RecommendTask(memberIds, from, mid, graph, teams, builtAt);
+            RecommendTask right = new RecommendTask(memberIds, mid, to, graph, teams, builtAt);
+            left.fork();
+            List<FollowRecommendation> result = new ArrayList<>(right.compute());
+            result.addAll(left.join());
+            return result;
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.ssafy.yammy.follow.service;
 
 import com.ssafy.yammy.auth.entity.Member;
+import com.ssafy.yammy.auth.entity.MemberStats;
 import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.auth.service.MemberStatsService;
 import com.ssafy.yammy.follow.dto.FollowListResponse;
+import com.ssafy.yammy.follow.dto.FollowPageResponse;
 import com.ssafy.yammy.follow.dto.FollowResponse;
 import com.ssafy.yammy.follow.dto.FollowStatusResponse;
 import com.ssafy.yammy.follow.entity.Follow;
 import com.ssafy.yammy.follow.repository.FollowRepository;
+import com.ssafy.yammy.post.service.FeedTimelineService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,6 +32,9 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final MemberRepository memberRepository;
+    private final FeedTimelineService feedTimelineService;
+    private final MemberStatsService memberStatsService;
+    private final FollowGraphIndex followGraphIndex;
 
     /**
      * 팔로우 하기 (Idempotent - 여러 번 호출해도 같은 결과)
@@ -54,6 +67,9 @@ public class FollowService {
                 .build();
 
         followRepository.save(follow);
+        memberStatsService.onFollowChanged(followerId, followingId, 1);
+        followGraphIndex.onFollowed(followerId, followingId);
+        feedTimelineService.evict(followerId);
         log.info("[FollowService] 팔로우 성공");
 
         return new FollowResponse(true, "팔로우 성공");
@@ -66,73 +82,39 @@ public class FollowService {
     public FollowResponse unfollow(Long followerId, Long followingId) {
         log.info("[FollowService] 언팔로우 요청: followerId={}, followingId={}", followerId, followingId);
 
-        boolean isFollowing = followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
-        if (!isFollowing) {
+        // 삭제된 행이 없으면 이미 언팔로우 상태
+        if (followRepository.deleteByFollowerIdAndFollowingId(followerId, followingId) == 0) {
             log.info("[FollowService] 이미 언팔로우 상태입니다 (Idempotent): followerId={}, followingId={}", followerId, followingId);
             // 에러 대신 성공 응답 반환 (Idempotent)
             return new FollowResponse(false, "언팔로우 성공");
         }
 
-        followRepository.deleteByFollowerIdAndFollowingId(followerId, followingId);
+        memberStatsService.onFollowChanged(followerId, followingId, -1);
+        followGraphIndex.onUnfollowed(followerId, followingId);
+        feedTimelineService.evict(followerId);
         log.info("[FollowService] 언팔로우 성공");
 
         return new FollowResponse(false, "언팔로우 성공");
     }
 
     /**
-     * 팔로워 목록 (나를 팔로우한 사람들) - 페이징
+     * 팔로워 목록 (나를 팔로우한 사람들) - 커서 기반 페이징
      */
-    public Page<FollowListResponse> getFollowers(Long memberId, Long currentMemberId, Pageable pageable) {
-        log.info("[FollowService] 팔로워 목록 조회: memberId={}, currentMemberId={}", memberId, currentMemberId);
-
-        Page<Follow> follows = followRepository.findByFollowingId(memberId, pageable);
-
-        return follows.map(follow -> {
-            Member member = memberRepository.findById(follow.getFollowerId())
-                    .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-
-            // 현재 로그인한 사용자가 이 사람을 팔로우하는지 확인
-            Boolean isFollowing = null;
-            if (currentMemberId != null && !currentMemberId.equals(member.getMemberId())) {
-                isFollowing = followRepository.existsByFollowerIdAndFollowingId(currentMemberId, member.getMemberId());
-            }
-
-            return new FollowListResponse(
-                    member.getMemberId(),
-                    member.getNickname(),
-                    member.getProfileImage(),
-                    member.getTeam(),
-                    isFollowing
-            );
-        });
+    public FollowPageResponse getFollowers(Long memberId, Long currentMemberId, Long cursor, int size) {
+        log.info("[FollowService] 팔로워 목록 조회: memberId={}, currentMemberId={}, cursor={}", memberId, currentMemberId, cursor);
+
+        List<Follow> follows = followRepository.findFollowersWithCursor(memberId, cursor, PageRequest.of(0, size + 1));
+        return buildFollowPage(follows, Follow::getFollowerId, currentMemberId, size);
     }
 
     /**
-     * 팔로잉 목록 (내가 팔로우한 사람들) - 페이징
+     * 팔로잉 목록 (내가 팔로우한 사람들) - 커서 기반 페이징
      */
-    public Page<FollowListResponse> getFollowing(Long memberId, Long currentMemberId, Pageable pageable) {
-        log.info("[FollowService] 팔로잉 목록 조회: memberId={}, currentMemberId={}", memberId, currentMemberId);
-
-        Page<Follow> follows = followRepository.findByFollowerId(memberId, pageable);
-
-        return follows.map(follow -> {
-            Member member = memberRepository.findById(follow.getFollowingId())
-                    .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-
-            // 현재 로그인한 사용자가 이 사람을 팔로우하는지 확인
-            Boolean isFollowing = null;
-            if (currentMemberId != null && !currentMemberId.equals(member.getMemberId())) {
-                isFollowing = followRepository.existsByFollowerIdAndFollowingId(currentMemberId, member.getMemberId());
-            }
-
-            return new FollowListResponse(
-                    member.getMemberId(),
-                    member.getNickname(),
-                    member.getProfileImage(),
-                    member.getTeam(),
-                    isFollowing
-            );
-        });
+    public FollowPageResponse getFollowing(Long memberId, Long currentMemberId, Long cursor, int size) {
+        log.info("[FollowService] 팔로잉 목록 조회: memberId={}, currentMemberId={}, cursor={}", memberId, currentMemberId, cursor);
+
+        List<Follow> follows = followRepository.findFollowingsWithCursor(memberId, cursor, PageRequest.of(0, size + 1));
+        return buildFollowPage(follows, Follow::getFollowingId, currentMemberId, size);
     }
 
     /**
@@ -141,10 +123,59 @@ public class FollowService {
     public FollowStatusResponse getFollowStatus(Long followerId, Long followingId) {
         log.info("[FollowService] 팔로우 상태 확인: followerId={}, followingId={}", followerId, followingId);
 
-        boolean isFollowing = followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
-        long followerCount = followRepository.countByFollowingId(followingId);
-        long followingCount = followRepository.countByFollowerId(followingId);
+        boolean isFollowing = followGraphIndex.isFollowing(followerId, followingId);
+        MemberStats stats = memberStatsService.getStats(followingId);
+
+        return new FollowStatusResponse(isFollowing, stats.getFollowerCount(), stats.getFollowingCount());
+    }
+
+    // 회원 정보와 현재 사용자의 팔로우 여부를 각각 한 번에 조회해서 목록 생성
+    private FollowPageResponse buildFollowPage(List<Follow> follows, Function<Follow, Long> targetIdExtractor,
+                                               Long currentMemberId, int size) {
+        boolean hasNext = follows.size() > size;
+        if (hasNext) {
+            follows = follows.subList(0, size);
+        }
 
-        return new FollowStatusResponse(isFollowing, followerCount, followingCount);
+        List<Long> targetIds = follows.stream()
+                .map(targetIdExtractor)
+                .collect(Collectors.toList());
+
+        // 회원 정보 배치 조회
+        Map<Long, Member> memberMap = memberRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, m -> m));
+
+        // 현재 로그인한 사용자가 팔로우하는 회원 배치 조회
+        Set<Long> followingIds = currentMemberId != null
+                ? followGraphIndex.filterFollowing(currentMemberId, targetIds)
+                : new HashSet<>();
+
+        List<FollowListResponse> responses = targetIds.stream()
+                .filter(memberMap::containsKey)
+                .map(targetId -> {
+                    Member member = memberMap.get(targetId);
+
+                    // 본인이거나 비로그인이면 null
+                    Boolean isFollowing = currentMemberId != null && !currentMemberId.equals(targetId)
+                            ? followingIds.contains(targetId)
+                            : null;
+
+                    return new FollowListResponse(
+                            member.getMemberId(),
+                            member.getNickname(),
+                            member.getProfileImage(),
+                            member.getTeam(),
+                            isFollowing
+                    );
+                })
+                .collect(Collectors.toList());
+
+        Long nextCursor = hasNext && !follows.isEmpty() ? follows.get(follows.size() - 1).getId() : null;
+
+        return FollowPageResponse.builder()
+                .follows(responses)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
-}
\ No newline at end of file
+}
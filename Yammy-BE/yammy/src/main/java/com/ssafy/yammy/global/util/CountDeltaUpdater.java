@@ -0,0 +1,43 @@
+package com.ssafy.yammy.global.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 행의 카운트 컬럼에 서로 다른 증감분을 UPDATE 한 번으로 반영
+ * - UPDATE t SET c = GREATEST(c + CASE id WHEN ? THEN ? ... END, 0) WHERE id IN (...)
+ * - 드라이버 옵션(rewriteBatchedStatements)과 무관하게 CHUNK_SIZE 개마다 한 번의 왕복
+ */
+public final class CountDeltaUpdater {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private CountDeltaUpdater() {
+    }
+
+    // table / column 은 코드에 고정된 이름만 넘길 것 (SQL 에 그대로 들어감)
+    public static void addAll(JdbcTemplate jdbcTemplate, String table, String column, Map<Long, Integer> deltas) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, Integer>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+
+            String sql = "UPDATE " + table + " SET " + column + " = GREATEST(" + column + " + CASE id "
+                    + String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?"))
+                    + " ELSE 0 END, 0) WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<Long, Integer> entry : chunk) {
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            }
+            for (Map.Entry<Long, Integer> entry : chunk) {
+                args.add(entry.getKey());
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
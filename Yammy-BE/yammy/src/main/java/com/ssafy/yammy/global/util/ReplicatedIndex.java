@@ -0,0 +1,123 @@
+package com.ssafy.yammy.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 서버마다 메모리에 두는 인덱스의 적재와 변경 이벤트 동기화 (FollowGraphIndex, MemberSearchIndex 공용)
+ * - 변경 이벤트 {type, id, value} 는 커밋 후 이 서버 인덱스에 바로 반영하고, 다른 서버에는 Redis Pub/Sub 으로 전달
+ * - 재적재 중 들어온 이벤트는 모아뒀다가 새 인덱스에 다시 반영한 뒤 교체 (이벤트 반영은 멱등이어야 함)
+ * - 적재가 한 번도 성공하지 않았으면 isReady() 가 false (호출하는 쪽에서 DB 조회로 대체)
+ */
+@Slf4j
+public class ReplicatedIndex<T> implements MessageListener {
+
+    private final String name;
+    private final String channel;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Supplier<T> loader;
+    private final BiConsumer<T, String[]> applier;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile T current;
+    private volatile boolean ready = false;
+
+    // 재적재 중 들어온 변경 이벤트 (적재 완료 후 새 인덱스에 다시 반영)
+    private volatile boolean loading = false;
+    private final Queue<String[]> eventsDuringLoad = new ConcurrentLinkedQueue<>();
+
+    public ReplicatedIndex(String name, String channel, StringRedisTemplate stringRedisTemplate,
+                           T initial, Supplier<T> loader, BiConsumer<T, String[]> applier) {
+        this.name = name;
+        this.channel = channel;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.current = initial;
+        this.loader = loader;
+        this.applier = applier;
+    }
+
+    public void subscribe(RedisMessageListenerContainer redisMessageListenerContainer) {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    public T current() {
+        return current;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 새로 적재해서 교체 (실패하면 기존 인덱스를 유지하고 null 반환)
+    public T reload() {
+        loading = true;
+        eventsDuringLoad.clear();
+        try {
+            T loaded = loader.get();
+
+            // 적재 중 들어온 이벤트 재반영 후 교체
+            String[] event;
+            while ((event = eventsDuringLoad.poll()) != null) {
+                applier.accept(loaded, event);
+            }
+            current = loaded;
+            ready = true;
+            return loaded;
+        } catch (Exception e) {
+            log.error("[{}] 인덱스 적재 실패: {}", name, e.getMessage(), e);
+            return null;
+        } finally {
+            loading = false;
+            String[] event;
+            while ((event = eventsDuringLoad.poll()) != null) {
+                applier.accept(current, event);
+            }
+        }
+    }
+
+    // 변경 이벤트 반영 + 다른 서버로 전파 (트랜잭션 중이면 커밋 후)
+    public void publishAfterCommit(String type, Long id, String value) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            apply(new String[]{type, String.valueOf(id), value});
+            try {
+                stringRedisTemplate.convertAndSend(channel, String.join("|", nodeId, type, String.valueOf(id), value));
+            } catch (Exception e) {
+                log.warn("[{}] 변경 이벤트 전파 실패: type={}, id={}, error={}", name, type, id, e.getMessage());
+            }
+        });
+    }
+
+    // 다른 서버에서 보낸 변경 이벤트 (형식: {nodeId}|{type}|{id}|{value}, value 에는 '|' 가 들어갈 수 있음)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length != 4 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            apply(new String[]{parts[1], parts[2], parts[3]});
+        } catch (NumberFormatException e) {
+            log.warn("[{}] 잘못된 이벤트 메시지: {}", name, body);
+        }
+    }
+
+    private void apply(String[] event) {
+        if (loading) {
+            eventsDuringLoad.add(event);
+        }
+        applier.accept(current, event);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ssafy.yammy.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Write-Behind 카운터 (좋아요 수처럼 자주 바뀌는 카운트 컬럼용)
+ * - 증감마다 행을 잠그지 않고 메모리(ID별 LongAdder)에 증감분만 누적하고, flush 때 DB에 한 번에 반영
+ * - 서버마다 자기 증감분만 더하므로 여러 서버에서도 합산 결과가 맞음
+ * - 조회용 카운트(DB 값 + 미반영 증감분)는 짧게 로컬 캐싱하고, 이 서버의 증감분은 바로 반영 (다른 서버 증감분은 만료 후 반영)
+ * - flush 는 누적 맵을 통째로 새 맵과 바꿔 떼어낸 뒤(짧은 락) 모든 ID의 증감분을 UPDATE 한 번으로 반영
+ *   떼어낸 뒤에 들어온 증감분은 새 맵에 쌓이므로 DB 반영 중에도 누적이 막히지 않음
+ * - 조회(DB 값 + 증감분 합산)는 반영 UPDATE 와만 배타적으로 실행해, 반영 도중 조회해도 증감분을 두 번 세거나 빠뜨리지 않음
+ */
+@Slf4j
+public class WriteBehindCounter {
+
+    private final String name;
+    private final Function<List<Long>, List<Object[]>> loader;  // ID 목록 -> (ID, DB 카운트) 행
+    private final Consumer<Map<Long, Integer>> writer;          // ID -> 증감분 일괄 DB 반영
+
+    // 누적 중인 증감분 (flush 때 새 맵으로 교체)
+    private volatile ConcurrentHashMap<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    // 누적(read) / 누적 맵 교체(write)
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 조회(read) / 떼어낸 증감분 DB 반영(write)
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    // ID -> 카운트 (DB 값 + 미반영 증감분)
+    private final Cache<Long, Integer> counts;
+
+    public WriteBehindCounter(String name, long maximumSize, Duration expireAfterWrite,
+                              Function<List<Long>, List<Object[]>> loader,
+                              Consumer<Map<Long, Integer>> writer) {
+        this.name = name;
+        this.loader = loader;
+        this.writer = writer;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    // 증감분 누적 (트랜잭션 중이면 커밋 후에 반영)
+    public void add(Long id, long delta) {
+        TransactionCallbacks.runAfterCommit(() -> accumulate(id, delta));
+    }
+
+    // 여러 ID의 카운트 조회 (DB에 없는 ID는 제외)
+    public Map<Long, Integer> getCounts(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return counts.getAll(ids, this::load);
+    }
+
+    public Integer getCount(Long id) {
+        return getCounts(List.of(id)).get(id);
+    }
+
+    // 누적된 증감분을 DB에 반영
+    // 한 번에 한 스레드만 (스케줄러와 종료 시 flush 가 겹치지 않도록)
+    public synchronized void flush() {
+        flushLock.writeLock().lock();
+        try {
+            // 누적 맵 교체: 누적 락은 교체하는 동안만 잡고, 이후 증감분은 새 맵에 쌓임
+            ConcurrentHashMap<Long, LongAdder> drained;
+            swapLock.writeLock().lock();
+            try {
+                if (pendingDeltas.isEmpty()) {
+                    return;
+                }
+                drained = pendingDeltas;
+                pendingDeltas = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            Map<Long, Integer> deltas = new HashMap<>();
+            drained.forEach((id, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    deltas.put(id, (int) delta);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                writer.accept(deltas);
+            } catch (Exception e) {
+                // 실패한 증감분은 새 맵에 되돌려 다음 주기에 다시 시도 (캐시된 조회값은 이미 반영돼 있으므로 건드리지 않음)
+                log.warn("[{}] 카운트 반영 실패: size={}, error={}", name, deltas.size(), e.getMessage());
+                deltas.forEach(this::addPending);
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    // DB 값과 미반영 증감분을 같은 시점으로 합산 (반영 중인 증감분이 DB와 메모리 양쪽에 보이지 않도록)
+    private Map<Long, Integer> load(Set<? extends Long> ids) {
+        Map<Long, Integer> result = new HashMap<>();
+        flushLock.readLock().lock();
+        try {
+            for (Object[] row : loader.apply(new ArrayList<>(ids))) {
+                Long id = (Long) row[0];
+                long count = ((Number) row[1]).longValue() + getPendingDelta(id);
+                result.put(id, (int) Math.max(count, 0));
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // 누적 락(read)을 잡고 더해야 flush 가 떼어낸 맵에 늦게 더해져 증감분이 유실되지 않음
+    private void addPending(Long id, long delta) {
+        swapLock.readLock().lock();
+        try {
+            pendingDeltas.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private long getPendingDelta(Long id) {
+        LongAdder adder = pendingDeltas.get(id);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    private void accumulate(Long id, long delta) {
+        addPending(id, delta);
+        counts.asMap().computeIfPresent(id, (key, count) -> (int) Math.max(count + delta, 0));
+    }
+}
@@ -1,14 +1,38 @@
 package com.ssafy.yammy.kafka.consumer;
 
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.firebase.cloud.FirestoreClient;
 import com.ssafy.yammy.chatgames.service.FirebaseChatService;
+import com.ssafy.yammy.config.KafkaConfig;
 import com.ssafy.yammy.kafka.dto.ChatEvent;
-import com.ssafy.yammy.useditemchat.service.UsedItemChatRoomService;
+import com.ssafy.yammy.useditemchat.dto.UsedItemChatRoomUpdate;
 import com.ssafy.yammy.useditemchat.service.UsedItemFirebaseChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 메시지 배치 소비
+ * - poll 한 메시지를 채팅방별로 묶어 Firestore WriteBatch(최대 500건)로 저장 → 메시지마다 Firestore 왕복하지 않음
+ * - 중고거래 채팅방의 unreadCount / 마지막 메시지는 채팅방별로 집계해 한 번에 반영
+ * - 저장 실패한 메시지는 retry 토픽으로 넘겨 백오프 재시도, 끝내 실패하면 chat-messages.DLT 로 보냄
+ * - 리스너 자체가 실패하면(retry 토픽 전달 실패 등) 컨테이너가 배치를 백오프 재시도하고, 끝내 실패하면 DLT 로 보냄
+ * - 역직렬화에 실패한 레코드는 재시도 없이 원본 바이트 그대로 DLT 로 보냄
+ * - 재전달/재시도된 메시지는 이벤트 ID 로 걸러서 unreadCount 를 한 번만 올림
+ * - 리스너가 끝나면 배치 단위로 오프셋 커밋
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -16,80 +40,196 @@ public class ChatConsumer {
 
     private final UsedItemFirebaseChatService usedItemChatService;
     private final FirebaseChatService cheerupChatService;
-    private final UsedItemChatRoomService usedItemChatRoomService;
+    private final KafkaTemplate<String, ChatEvent> kafkaTemplate;
 
-    @KafkaListener(topics = "chat-messages", groupId = "chat-group")
-    public void consume(ChatEvent event) {
-        try {
-            log.info("📥 Kafka 수신: chatType={}, roomKey={}",
-                    event.getChatType(), event.getRoomKey());
-
-            // 채팅 타입별 처리
-            if ("USED_ITEM".equals(event.getChatType())) {
-                handleUsedItemChat(event);
-            } else if ("CHEERUP".equals(event.getChatType())) {
-                handleCheerupChat(event);
+    // Firestore WriteBatch 최대 작업 수
+    private static final int MAX_BATCH_WRITES = 500;
+
+    @KafkaListener(topics = KafkaConfig.CHAT_TOPIC, groupId = "chat-group",
+            containerFactory = KafkaConfig.CHAT_BATCH_LISTENER_FACTORY,
+            properties = "max.poll.records=${chat.consumer.max-poll-records:500}")
+    public void consume(List<ChatEvent> events) {
+        // 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer 가 null 로 넘김
+        // → 그 앞까지만 저장하고 위치를 알려주면, 에러 핸들러가 앞쪽 오프셋을 커밋하고 실패한 레코드를 DLT 로 보낸 뒤 나머지를 다시 받음
+        int invalidIndex = events.indexOf(null);
+        if (invalidIndex >= 0) {
+            save(events.subList(0, invalidIndex));
+            log.warn("역직렬화할 수 없는 채팅 메시지 DLT 로 전달: index={}", invalidIndex);
+            // 다시 읽어도 같은 결과이므로 재시도하지 않도록 DeserializationException 으로 분류
+            throw new BatchListenerFailedException("역직렬화할 수 없는 채팅 메시지",
+                    new DeserializationException("chat-messages 값을 읽을 수 없음", null, false, null), invalidIndex);
+        }
+        save(events);
+    }
+
+    private void save(List<ChatEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+
+        // 채팅방별로 묶기 (채팅방 안에서는 수신 순서 유지)
+        Map<String, List<ChatEvent>> eventsByRoom = new LinkedHashMap<>();
+        int skipped = 0;
+        for (ChatEvent event : events) {
+            eventsByRoom.computeIfAbsent(event.getChatType() + ":" + event.getRoomKey(), key -> new ArrayList<>())
+                    .add(event);
+        }
+
+        Firestore firestore = FirestoreClient.getFirestore();
+        WriteBatch batch = firestore.batch();
+        List<ChatEvent> pending = new ArrayList<>();
+        List<ChatEvent> failed = new ArrayList<>();
+
+        for (List<ChatEvent> roomEvents : eventsByRoom.values()) {
+            for (ChatEvent event : roomEvents) {
+                try {
+                    if (!addMessage(batch, event)) {
+                        skipped++;
+                        continue;
+                    }
+                } catch (Exception e) {
+                    log.error("❌ 처리 실패: roomKey={}, error={}", event.getRoomKey(), e.getMessage(), e);
+                    failed.add(event);
+                    continue;
+                }
+                pending.add(event);
+
+                if (pending.size() == MAX_BATCH_WRITES) {
+                    failed.addAll(commit(batch, pending));
+                    batch = firestore.batch();
+                    pending = new ArrayList<>();
+                }
             }
+        }
+        if (!pending.isEmpty()) {
+            failed.addAll(commit(batch, pending));
+        }
 
-            log.info("✅ 처리 완료: roomKey={}", event.getRoomKey());
+        // 실패한 메시지는 retry 토픽으로 넘기고 메인 파티션은 계속 진행
+        forwardToRetry(failed);
 
-        } catch (Exception e) {
-            log.error("❌ 처리 실패: roomKey={}, error={}",
-                    event.getRoomKey(), e.getMessage(), e);
+        log.info("📥 Kafka 배치 처리: received={}, saved={}, retried={}, rooms={}, elapsedMs={}",
+                events.size(), events.size() - skipped - failed.size(), failed.size(), eventsByRoom.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 저장 실패 메시지 재시도 (한 건씩)
+     * - 예외를 던지면 컨테이너가 백오프 후 다시 시도하고, 끝내 실패하면 chat-messages.DLT 로 보냄
+     * - 이벤트 ID 를 문서 ID 로 쓰므로 이미 저장된 메시지를 다시 처리해도 중복 저장되지 않음
+     */
+    @KafkaListener(topics = KafkaConfig.CHAT_RETRY_TOPIC, groupId = "chat-group",
+            containerFactory = KafkaConfig.CHAT_RETRY_LISTENER_FACTORY)
+    public void retry(ChatEvent event) throws Exception {
+        WriteBatch batch = FirestoreClient.getFirestore().batch();
+        if (!addMessage(batch, event)) {
+            return;
         }
+        batch.commit().get();
+        applyUsedItemUpdates(List.of(event));
+
+        log.info("🔁 재시도 성공: eventId={}, roomKey={}", event.getEventId(), event.getRoomKey());
     }
 
-    private void handleUsedItemChat(ChatEvent event) throws Exception {
-        String lastMessageContent = null;
+    // 채팅 타입별로 WriteBatch 에 메시지 추가 (알 수 없는 타입이면 false)
+    private boolean addMessage(WriteBatch batch, ChatEvent event) {
+        Timestamp createdAt = toTimestamp(event);
 
-        if ("TEXT".equals(event.getMessageType())) {
-            usedItemChatService.saveUsedItemChatTextMessage(
-                    event.getRoomKey(),
-                    event.getSenderId(),
-                    event.getSenderNickname(),
-                    event.getContent()
-            );
-            lastMessageContent = event.getContent();
-        } else if ("IMAGE".equals(event.getMessageType())) {
-            usedItemChatService.saveUsedItemChatMessage(
-                    event.getRoomKey(),
-                    event.getSenderId(),
-                    event.getSenderNickname(),
-                    event.getContent()
+        if ("USED_ITEM".equals(event.getChatType())) {
+            if ("TEXT".equals(event.getMessageType())) {
+                usedItemChatService.addUsedItemChatTextMessage(batch, event.getRoomKey(), event.getEventId(),
+                        event.getSenderId(), event.getSenderNickname(), event.getContent(), createdAt);
+                return true;
+            }
+            if ("IMAGE".equals(event.getMessageType())) {
+                usedItemChatService.addUsedItemChatMessage(batch, event.getRoomKey(), event.getEventId(),
+                        event.getSenderId(), event.getSenderNickname(), event.getContent(), createdAt);
+                return true;
+            }
+        } else if ("CHEERUP".equals(event.getChatType())) {
+            // 익명 닉네임 생성
+            String anonymousNickname = generateAnonymousNickname(
+                    event.getSenderTeam(),   // ← 사용자의 응원팀
+                    event.getSenderId()
             );
-            lastMessageContent = "사진";
+            if ("TEXT".equals(event.getMessageType())) {
+                cheerupChatService.addTextMessage(batch, event.getRoomKey(), event.getEventId(),
+                        event.getSenderId(), anonymousNickname, event.getContent(), createdAt);
+                return true;
+            }
+            if ("IMAGE".equals(event.getMessageType())) {
+                cheerupChatService.addImageMessage(batch, event.getRoomKey(), event.getEventId(),
+                        event.getSenderId(), anonymousNickname, event.getContent(), createdAt);
+                return true;
+            }
         }
 
-        // MySQL의 lastMessageContent 업데이트
-        if (lastMessageContent != null) {
-            usedItemChatRoomService.updateLastMessageContent(
-                    event.getRoomKey(),
-                    lastMessageContent
-            );
+        log.warn("알 수 없는 채팅 메시지: chatType={}, messageType={}, roomKey={}",
+                event.getChatType(), event.getMessageType(), event.getRoomKey());
+        return false;
+    }
+
+    // 배치 커밋 후 중고거래 채팅방의 unreadCount / 마지막 메시지 반영 (재시도해야 할 메시지 반환)
+    private List<ChatEvent> commit(WriteBatch batch, List<ChatEvent> events) {
+        try {
+            batch.commit().get();
+        } catch (Exception e) {
+            log.error("❌ 처리 실패: messages={}, rooms={}, error={}",
+                    events.size(), events.stream().map(ChatEvent::getRoomKey).distinct().toList(), e.getMessage(), e);
+            return events;
+        }
+
+        List<ChatEvent> usedItemEvents = events.stream()
+                .filter(event -> "USED_ITEM".equals(event.getChatType()))
+                .toList();
+        try {
+            applyUsedItemUpdates(usedItemEvents);
+        } catch (Exception e) {
+            // Firestore 커밋이 트랜잭션의 마지막 작업이라 실패하면 MySQL 변경(unreadCount, 처리한 이벤트 ID)도 롤백됨
+            // → 메시지째 재시도 (메시지 문서는 같은 ID 로 덮어씀)
+            // Firestore 커밋 후 MySQL 커밋만 실패하면 Firestore unreadCount 가 한 번 더 오를 수 있음 (MySQL 이 기준)
+            log.error("❌ unreadCount 반영 실패: rooms={}, error={}",
+                    usedItemEvents.stream().map(ChatEvent::getRoomKey).distinct().toList(), e.getMessage(), e);
+            return usedItemEvents;
         }
+        return List.of();
     }
 
-    private void handleCheerupChat(ChatEvent event) throws Exception {
-        // 익명 닉네임 생성
-        String anonymousNickname = generateAnonymousNickname(
-                event.getSenderTeam(),   // ← 사용자의 응원팀
-                event.getSenderId()
-        );
-        if ("TEXT".equals(event.getMessageType())) {
-            cheerupChatService.saveTextMessage(
-                    event.getRoomKey(),
-                    event.getSenderId(),
-                    anonymousNickname,
-                    event.getContent()
-            );
-        } else if ("IMAGE".equals(event.getMessageType())) {
-            cheerupChatService.saveImageMessage(
-                    event.getRoomKey(),
-                    event.getSenderId(),
-                    anonymousNickname,
-                    event.getContent()
-            );
+    // 중고거래 채팅방별로 메시지 수 / 마지막 메시지를 모아 한 번에 반영
+    private void applyUsedItemUpdates(List<ChatEvent> events) throws Exception {
+        Map<String, UsedItemChatRoomUpdate> roomUpdates = new LinkedHashMap<>();
+        for (ChatEvent event : events) {
+            if (!"USED_ITEM".equals(event.getChatType())) {
+                continue;
+            }
+            roomUpdates.computeIfAbsent(event.getRoomKey(), UsedItemChatRoomUpdate::new)
+                    .addMessage(event.getEventId(), event.getSenderId(),
+                            "IMAGE".equals(event.getMessageType()) ? "사진" : event.getContent(),
+                            event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now());
         }
+
+        if (!roomUpdates.isEmpty()) {
+            usedItemChatService.applyNewMessages(roomUpdates.values());
+        }
+    }
+
+    // retry 토픽으로 전달 (전달조차 실패하면 예외를 던져 배치를 다시 받음)
+    private void forwardToRetry(List<ChatEvent> events) {
+        for (ChatEvent event : events) {
+            try {
+                kafkaTemplate.send(KafkaConfig.CHAT_RETRY_TOPIC, event.getRoomKey(), event).get();
+            } catch (Exception e) {
+                throw new IllegalStateException("retry 토픽 전달 실패: eventId=" + event.getEventId(), e);
+            }
+        }
+    }
+
+    // 발신 시각 기준으로 저장 (배치로 저장해도 메시지 순서 유지)
+    private Timestamp toTimestamp(ChatEvent event) {
+        return event.getTimestamp() != null
+                ? Timestamp.of(java.sql.Timestamp.valueOf(event.getTimestamp()))
+                : Timestamp.now();
     }
 
     /**
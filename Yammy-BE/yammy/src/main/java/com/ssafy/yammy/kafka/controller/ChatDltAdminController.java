@@ -0,0 +1,33 @@
+package com.ssafy.yammy.kafka.controller;
+
+import com.ssafy.yammy.kafka.service.ChatDltReplayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@Tag(name = "Chat Message Admin", description = "채팅 메시지 큐 관리자 API")
+@RestController
+@RequestMapping("/api/admin/chat-messages")
+@RequiredArgsConstructor
+public class ChatDltAdminController {
+
+    private static final int MAX_REPLAY_SIZE = 1000;
+
+    private final ChatDltReplayService chatDltReplayService;
+
+    @Operation(summary = "DLT 메시지 재처리", description = "저장에 끝내 실패한 채팅 메시지를 최대 limit 건 다시 발행합니다.")
+    @PostMapping("/dlt/replay")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> replay(@RequestParam(defaultValue = "100") int limit) {
+        log.info("[ChatDltAdminController] POST /api/admin/chat-messages/dlt/replay - limit: {}", limit);
+        int replayed = chatDltReplayService.replay(Math.max(1, Math.min(limit, MAX_REPLAY_SIZE)));
+        return ResponseEntity.ok(Map.of("replayed", replayed));
+    }
+}
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatEvent {
+    private String eventId;      // 멱등 키 (Firestore 메시지 문서 ID, 재처리해도 중복 저장되지 않음)
     private String chatType;     // "USED_ITEM" or "CHEERUP"
     private String roomKey;
     private Long senderId;
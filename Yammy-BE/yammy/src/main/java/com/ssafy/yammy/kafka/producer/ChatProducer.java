@@ -1,11 +1,26 @@
 package com.ssafy.yammy.kafka.producer;
 
+import com.ssafy.yammy.config.KafkaConfig;
 import com.ssafy.yammy.kafka.dto.ChatEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 메시지 발행
+ * - 요청 스레드는 프로듀서 버퍼에 넣기까지만 기다리고, 브로커 응답은 콜백으로 집계
+ * - 버퍼에 넣지 못하면 (브로커 장애로 max.block.ms 초과 등) 예외가 그대로 HTTP 응답으로 전달됨
+ * - 발행 수/실패 수/지연 시간(평균/p99/최대)은 주기적으로 요약 기록
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -13,11 +28,126 @@ public class ChatProducer {
 
     private final KafkaTemplate<String, ChatEvent> kafkaTemplate;
 
-    public void send(ChatEvent event) {
-        log.info("📤 Kafka 발송: chatType={}, roomKey={}",
-                event.getChatType(), event.getRoomKey());
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder enqueueTotalMicros = new LongAdder();
+    private final LongAccumulator enqueueMaxMicros = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram enqueueMicrosHistogram = new LatencyHistogram();
+    private final LongAdder ackTotalMs = new LongAdder();
+    private final LongAccumulator ackMaxMs = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram ackMsHistogram = new LatencyHistogram();
+
+    public CompletableFuture<SendResult<String, ChatEvent>> send(ChatEvent event) {
+        // 멱등 키 부여 (재시도/재처리 시 같은 메시지 문서로 저장)
+        if (event.getEventId() == null) {
+            event.setEventId(UUID.randomUUID().toString());
+        }
+        log.debug("📤 Kafka 발송: chatType={}, roomKey={}, eventId={}",
+                event.getChatType(), event.getRoomKey(), event.getEventId());
+
+        long startedAt = System.nanoTime();
 
         // roomKey를 key로 사용 → 같은 방의 메시지는 순서 보장
-        kafkaTemplate.send("chat-messages", event.getRoomKey(), event);
+        CompletableFuture<SendResult<String, ChatEvent>> future =
+                kafkaTemplate.send(KafkaConfig.CHAT_TOPIC, event.getRoomKey(), event);
+
+        long enqueueMicros = (System.nanoTime() - startedAt) / 1_000;
+        enqueued.increment();
+        enqueueTotalMicros.add(enqueueMicros);
+        enqueueMaxMicros.accumulate(enqueueMicros);
+        enqueueMicrosHistogram.record(enqueueMicros);
+
+        // 버퍼에 넣기 전에 실패한 경우 (직렬화 실패, 메타데이터 조회 시간 초과 등) 호출한 요청으로 예외 전달
+        if (future.isCompletedExceptionally()) {
+            failed.increment();
+            future.join();
+        }
+
+        return future.whenComplete((result, e) -> {
+            if (e != null) {
+                failed.increment();
+                log.error("❌ Kafka 발송 실패: chatType={}, roomKey={}, eventId={}, error={}",
+                        event.getChatType(), event.getRoomKey(), event.getEventId(), e.getMessage());
+                return;
+            }
+            long ackMs = (System.nanoTime() - startedAt) / 1_000_000;
+            sent.increment();
+            ackTotalMs.add(ackMs);
+            ackMaxMs.accumulate(ackMs);
+            ackMsHistogram.record(ackMs);
+        });
+    }
+
+    // 주기 동안 발행한 메시지가 있을 때만 요약 기록 후 초기화
+    @Scheduled(fixedDelayString = "${chat.producer.summary-interval-ms:60000}")
+    public void logSummary() {
+        long enqueuedCount = enqueued.sumThenReset();
+        long sentCount = sent.sumThenReset();
+        long failedCount = failed.sumThenReset();
+        long enqueueTotal = enqueueTotalMicros.sumThenReset();
+        long enqueueMax = enqueueMaxMicros.getThenReset();
+        long ackTotal = ackTotalMs.sumThenReset();
+        long ackMax = ackMaxMs.getThenReset();
+        long[] enqueueBuckets = enqueueMicrosHistogram.sumThenReset();
+        long[] ackBuckets = ackMsHistogram.sumThenReset();
+        if (enqueuedCount + sentCount + failedCount == 0) {
+            return;
+        }
+
+        log.info("chat-producer-summary enqueued={} sent={} failed={} avgEnqueueUs={} p99EnqueueUs={} maxEnqueueUs={} avgAckMs={} p99AckMs={} maxAckMs={}",
+                enqueuedCount, sentCount, failedCount, enqueuedCount > 0 ? enqueueTotal / enqueuedCount : 0,
+                LatencyHistogram.percentile(enqueueBuckets, 0.99, enqueueMax), enqueueMax,
+                sentCount > 0 ? ackTotal / sentCount : 0, LatencyHistogram.percentile(ackBuckets, 0.99, ackMax), ackMax);
+    }
+
+    /**
+     * 지연 시간 구간별 건수 (1-2-5 단위 구간, 락 없이 LongAdder 로 기록)
+     * - 백분위는 해당 순위가 속한 구간의 상한으로 근사 (최대값을 넘지 않게 보정)
+     */
+    static final class LatencyHistogram {
+
+        private static final long[] BOUNDS = {
+                1, 2, 5, 10, 20, 50, 100, 200, 500,
+                1_000, 2_000, 5_000, 10_000, 20_000, 50_000,
+                100_000, 200_000, 500_000, 1_000_000};
+
+        // 마지막 칸은 가장 큰 상한을 넘는 값
+        private final LongAdder[] counts = new LongAdder[BOUNDS.length + 1];
+
+        LatencyHistogram() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            int index = Arrays.binarySearch(BOUNDS, value);
+            counts[index >= 0 ? index : -index - 1].increment();
+        }
+
+        long[] sumThenReset() {
+            long[] snapshot = new long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                snapshot[i] = counts[i].sumThenReset();
+            }
+            return snapshot;
+        }
+
+        static long percentile(long[] snapshot, double percentile, long max) {
+            long total = Arrays.stream(snapshot).sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BOUNDS.length; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return Math.min(BOUNDS[i], max);
+                }
+            }
+            return max;
+        }
     }
-}
\ No newline at end of file
+}
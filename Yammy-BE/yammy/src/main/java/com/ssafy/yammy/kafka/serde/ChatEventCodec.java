@@ -0,0 +1,183 @@
+package com.ssafy.yammy.kafka.serde;
+
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ChatEvent 바이너리 인코딩
+ * - 필드 이름 없이 정해진 순서로 기록하고, null 인 필드는 앞쪽 presence 비트로만 표시
+ * - 문자열은 길이(varint) + UTF-8, 숫자는 varint 로 기록 (리플렉션 없이 인코딩/디코딩)
+ * - 첫 바이트(MAGIC)로 JSON 메시지와 구분
+ *
+ * v1: MAGIC | VERSION | presence | eventId | chatType | roomKey | senderId | senderNickname
+ *     | senderTeam | messageType | content | timestamp(epochSecond, nano)
+ */
+public final class ChatEventCodec {
+
+    public static final byte MAGIC = (byte) 0xCE;
+    private static final byte VERSION = 1;
+
+    // presence 비트 (필드 기록 순서)
+    private static final int EVENT_ID = 1;
+    private static final int CHAT_TYPE = 1 << 1;
+    private static final int ROOM_KEY = 1 << 2;
+    private static final int SENDER_ID = 1 << 3;
+    private static final int SENDER_NICKNAME = 1 << 4;
+    private static final int SENDER_TEAM = 1 << 5;
+    private static final int MESSAGE_TYPE = 1 << 6;
+    private static final int CONTENT = 1 << 7;
+    private static final int TIMESTAMP = 1 << 8;
+
+    private ChatEventCodec() {
+    }
+
+    public static byte[] encode(ChatEvent event) {
+        byte[] eventId = utf8(event.getEventId());
+        byte[] chatType = utf8(event.getChatType());
+        byte[] roomKey = utf8(event.getRoomKey());
+        byte[] senderNickname = utf8(event.getSenderNickname());
+        byte[] senderTeam = utf8(event.getSenderTeam());
+        byte[] messageType = utf8(event.getMessageType());
+        byte[] content = utf8(event.getContent());
+        Long senderId = event.getSenderId();
+        LocalDateTime timestamp = event.getTimestamp();
+
+        int presence = (eventId != null ? EVENT_ID : 0)
+                | (chatType != null ? CHAT_TYPE : 0)
+                | (roomKey != null ? ROOM_KEY : 0)
+                | (senderId != null ? SENDER_ID : 0)
+                | (senderNickname != null ? SENDER_NICKNAME : 0)
+                | (senderTeam != null ? SENDER_TEAM : 0)
+                | (messageType != null ? MESSAGE_TYPE : 0)
+                | (content != null ? CONTENT : 0)
+                | (timestamp != null ? TIMESTAMP : 0);
+
+        long epochSecond = timestamp != null ? timestamp.toEpochSecond(ZoneOffset.UTC) : 0;
+        int nano = timestamp != null ? timestamp.getNano() : 0;
+
+        int size = 2 + varLongSize(presence)
+                + stringSize(eventId) + stringSize(chatType) + stringSize(roomKey)
+                + (senderId != null ? varLongSize(senderId) : 0)
+                + stringSize(senderNickname) + stringSize(senderTeam) + stringSize(messageType) + stringSize(content)
+                + (timestamp != null ? varLongSize(epochSecond) + varLongSize(nano) : 0);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(MAGIC).put(VERSION);
+        putVarLong(buffer, presence);
+        putString(buffer, eventId);
+        putString(buffer, chatType);
+        putString(buffer, roomKey);
+        if (senderId != null) {
+            putVarLong(buffer, senderId);
+        }
+        putString(buffer, senderNickname);
+        putString(buffer, senderTeam);
+        putString(buffer, messageType);
+        putString(buffer, content);
+        if (timestamp != null) {
+            putVarLong(buffer, epochSecond);
+            putVarLong(buffer, nano);
+        }
+        return buffer.array();
+    }
+
+    public static ChatEvent decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        try {
+            if (buffer.get() != MAGIC) {
+                throw new SerializationException("ChatEvent 바이너리 형식이 아닙니다.");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new SerializationException("지원하지 않는 ChatEvent 버전입니다: " + version);
+            }
+
+            int presence = (int) getVarLong(buffer);
+            ChatEvent event = new ChatEvent();
+            event.setEventId(getString(buffer, presence, EVENT_ID));
+            event.setChatType(getString(buffer, presence, CHAT_TYPE));
+            event.setRoomKey(getString(buffer, presence, ROOM_KEY));
+            if ((presence & SENDER_ID) != 0) {
+                event.setSenderId(getVarLong(buffer));
+            }
+            event.setSenderNickname(getString(buffer, presence, SENDER_NICKNAME));
+            event.setSenderTeam(getString(buffer, presence, SENDER_TEAM));
+            event.setMessageType(getString(buffer, presence, MESSAGE_TYPE));
+            event.setContent(getString(buffer, presence, CONTENT));
+            if ((presence & TIMESTAMP) != 0) {
+                long epochSecond = getVarLong(buffer);
+                int nano = (int) getVarLong(buffer);
+                event.setTimestamp(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+            }
+            return event;
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new SerializationException("ChatEvent 디코딩 실패", e);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int stringSize(byte[] bytes) {
+        return bytes != null ? varLongSize(bytes.length) + bytes.length : 0;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes != null) {
+            putVarLong(buffer, bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer, int presence, int field) {
+        if ((presence & field) == 0) {
+            return null;
+        }
+        long length = getVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new SerializationException("ChatEvent 문자열 길이가 잘못되었습니다: " + length);
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int) length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + (int) length);
+        return value;
+    }
+
+    // 7비트씩 나눠 기록 (작은 값일수록 적은 바이트)
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("ChatEvent varint 가 너무 깁니다.");
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.yammy.kafka.serde;
+
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * chat-messages 값 역직렬화
+ * - 바이너리(ChatEventCodec) 메시지는 그대로 디코딩
+ * - JSON 메시지(전환 전에 쌓인 메시지, JSON 으로 되돌린 프로듀서)는 ChatEvent 로 고정해서 읽음 (타입 헤더 무시)
+ */
+public class ChatEventDeserializer implements Deserializer<ChatEvent> {
+
+    private final JsonDeserializer<ChatEvent> jsonDeserializer = new JsonDeserializer<>(ChatEvent.class, false);
+
+    @Override
+    public ChatEvent deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (data[0] == ChatEventCodec.MAGIC) {
+            return ChatEventCodec.decode(data);
+        }
+        if (data[0] == '{') {
+            return jsonDeserializer.deserialize(topic, data);
+        }
+        throw new SerializationException("알 수 없는 ChatEvent 형식입니다: topic=" + topic);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
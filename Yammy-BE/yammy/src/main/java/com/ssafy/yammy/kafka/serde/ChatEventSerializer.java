@@ -0,0 +1,19 @@
+package com.ssafy.yammy.kafka.serde;
+
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * chat-messages 값 직렬화 (ChatEventCodec 바이너리 형식)
+ * - 역직렬화에 실패해 DLT 로 보내는 레코드는 DeadLetterPublishingRecoverer 가 원본 바이트를 넘기므로 그대로 전달
+ */
+public class ChatEventSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object value) {
+        if (value instanceof byte[] raw) {
+            return raw;
+        }
+        return value != null ? ChatEventCodec.encode((ChatEvent) value) : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy.yammy.kafka.service;
+
+import com.ssafy.yammy.config.KafkaConfig;
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import com.ssafy.yammy.kafka.serde.ChatEventDeserializer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * chat-messages.DLT 재처리
+ * - DLT 에 쌓인 메시지를 요청한 개수만큼 읽어 메인 토픽으로 다시 발행
+ * - 재발행한 메시지까지만 오프셋 커밋 (다음 재처리는 그 뒤부터)
+ * - 이벤트 ID 로 저장하므로 이미 저장된 메시지가 섞여 있어도 중복 저장되지 않음
+ * - 읽을 수 없는 메시지는 로그만 남기고 오프셋을 넘김 (같은 레코드에서 재처리가 멈추지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatDltReplayService {
+
+    private static final String REPLAY_GROUP_ID = "chat-dlt-replay";
+
+    // 더 이상 읽을 메시지가 없다고 판단하는 poll 대기 시간
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(3);
+
+    private final ConsumerFactory<Object, Object> kafkaConsumerFactory;
+    private final KafkaTemplate<String, ChatEvent> kafkaTemplate;
+
+    /**
+     * DLT 메시지 재발행
+     * @return 재발행한 메시지 수
+     */
+    public synchronized int replay(int limit) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(limit));
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // 읽을 수 없는 레코드가 있어도 poll 이 같은 오프셋에서 계속 실패하지 않도록 null 값으로 받아서 건너뜀
+        overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class.getName());
+        overrides.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, ChatEventDeserializer.class.getName());
+
+        int replayed = 0;
+        try (Consumer<Object, Object> consumer =
+                     kafkaConsumerFactory.createConsumer(REPLAY_GROUP_ID, null, "-replay", overrides)) {
+            consumer.subscribe(List.of(KafkaConfig.CHAT_DLT_TOPIC));
+
+            while (replayed < limit) {
+                var records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<Object, Object> record : records) {
+                    if (replayed == limit) {
+                        break;
+                    }
+                    if (record.value() instanceof ChatEvent event) {
+                        kafkaTemplate.send(KafkaConfig.CHAT_TOPIC, event.getRoomKey(), event).get();
+                        replayed++;
+                    } else {
+                        log.warn("[ChatDltReplayService] 읽을 수 없는 DLT 메시지 건너뜀: partition={}, offset={}, error={}",
+                                record.partition(), record.offset(), deserializationError(record));
+                    }
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+                consumer.commitSync(offsets);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재처리가 중단되었습니다.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("DLT 재처리 실패: " + e.getMessage(), e);
+        }
+
+        log.info("[ChatDltReplayService] DLT 재처리 완료: replayed={}", replayed);
+        return replayed;
+    }
+
+    // ErrorHandlingDeserializer 가 헤더에 남긴 역직렬화 실패 원인
+    private String deserializationError(ConsumerRecord<Object, Object> record) {
+        Header header = record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER);
+        if (header == null) {
+            return "unknown";
+        }
+        DeserializationException exception = SerializationUtils.byteArrayToDeserializationException(
+                new LogAccessor(ChatDltReplayService.class), header);
+        return exception != null ? exception.getMessage() : "unknown";
+    }
+}
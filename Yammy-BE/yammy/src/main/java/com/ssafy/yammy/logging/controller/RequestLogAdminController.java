@@ -0,0 +1,46 @@
+package com.ssafy.yammy.logging.controller;
+
+import com.ssafy.yammy.logging.dto.RequestLogSettingsResponse;
+import com.ssafy.yammy.logging.service.RequestLogSettings;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@Tag(name = "Request Log Admin", description = "요청 로그 관리자 API")
+@RestController
+@RequestMapping("/api/admin/logging")
+@RequiredArgsConstructor
+public class RequestLogAdminController {
+
+    private final RequestLogSettings requestLogSettings;
+
+    @Operation(summary = "요청 로그 설정 조회", description = "샘플링 비율과 디버그 모드 여부를 조회합니다.")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RequestLogSettingsResponse> getSettings() {
+        return ResponseEntity.ok(toResponse());
+    }
+
+    @Operation(summary = "요청 로그 디버그 모드 변경", description = "모든 서버에서 전체 요청 기록 및 인증 필터 DEBUG 로그를 켜거나 끕니다.")
+    @PutMapping("/debug")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RequestLogSettingsResponse> changeDebug(@RequestParam boolean enabled) {
+        log.info("[RequestLogAdminController] PUT /api/admin/logging/debug - enabled: {}", enabled);
+        requestLogSettings.changeDebug(enabled);
+        return ResponseEntity.ok(toResponse());
+    }
+
+    private RequestLogSettingsResponse toResponse() {
+        return new RequestLogSettingsResponse(
+                requestLogSettings.isDebug(),
+                requestLogSettings.getDefaultSampleRate(),
+                requestLogSettings.getEndpointSampleRates(),
+                requestLogSettings.getSlowThresholdMs()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.yammy.logging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class RequestLogSettingsResponse {
+    private Boolean debug;                         // 디버그 모드 (모든 요청 기록 + 인증 필터 DEBUG 로그)
+    private Double defaultSampleRate;              // 기본 샘플링 비율
+    private Map<String, Double> endpointSampleRates;  // 경로 패턴 접두사별 샘플링 비율
+    private Long slowThresholdMs;                  // 이보다 느린 요청은 항상 기록
+}
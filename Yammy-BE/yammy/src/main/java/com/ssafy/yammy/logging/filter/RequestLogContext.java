@@ -0,0 +1,42 @@
+package com.ssafy.yammy.logging.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 단위 로그 정보 (요청 속성에 보관하고 요청 종료 시 RequestLogFilter 가 한 줄로 기록)
+ */
+public final class RequestLogContext {
+
+    private static final String AUTH_RESULT = RequestLogContext.class.getName() + ".AUTH_RESULT";
+    private static final String MEMBER_ID = RequestLogContext.class.getName() + ".MEMBER_ID";
+
+    public enum AuthResult {
+        PUBLIC,         // 공개 경로라 JWT 확인 안 함
+        ANONYMOUS,      // Authorization 헤더 없음
+        CLAIMS,         // 토큰 클레임만으로 인증 (조회 요청)
+        PRINCIPAL,      // 회원 정보로 인증 (변경 요청)
+        INVALID_TOKEN,  // 만료/위조 토큰 → 401
+        DISABLED,       // 탈퇴한 회원의 토큰 → 401
+        ERROR           // 처리 중 예외 → 401
+    }
+
+    private RequestLogContext() {
+    }
+
+    public static void recordAuth(HttpServletRequest request, AuthResult result, Long memberId) {
+        request.setAttribute(AUTH_RESULT, result);
+        if (memberId != null) {
+            request.setAttribute(MEMBER_ID, memberId);
+        }
+    }
+
+    static AuthResult getAuthResult(HttpServletRequest request) {
+        Object result = request.getAttribute(AUTH_RESULT);
+        return result instanceof AuthResult ? (AuthResult) result : AuthResult.ANONYMOUS;
+    }
+
+    static Long getMemberId(HttpServletRequest request) {
+        Object memberId = request.getAttribute(MEMBER_ID);
+        return memberId instanceof Long ? (Long) memberId : null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.yammy.logging.filter;
+
+import com.ssafy.yammy.logging.service.RequestLogSettings;
+import com.ssafy.yammy.logging.service.RequestMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 로그 (요청당 최대 한 줄)
+ * - 인증 결과 등은 요청 중에 RequestLogContext 에 모아두고 요청이 끝나면 key=value 형식 한 줄로 기록
+ * - 엔드포인트별 비율로 샘플링하고, 5xx/401/403/느린 요청/디버그 모드는 항상 기록
+ * - 인증 실패처럼 컨트롤러까지 가지 않은 요청은 매핑 패턴이 없으므로 샘플링 비율은 요청 URI 로 찾음
+ * - 집계(RequestMetrics)는 샘플링과 무관하게 모든 요청을 반영
+ * - Spring Security 필터보다 먼저 실행되어 인증 실패(401)도 포함
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private final RequestLogSettings requestLogSettings;
+    private final RequestMetrics requestMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+            int status = response.getStatus();
+            String pattern = resolvePattern(request);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+
+            requestMetrics.record(endpoint, status, elapsedMs);
+
+            String sampleKey = pattern != null ? pattern : request.getRequestURI();
+            if (shouldLog(sampleKey, status, elapsedMs)) {
+                log.info("request endpoint=\"{}\" uri={} status={} auth={} memberId={} durationMs={}",
+                        endpoint, request.getRequestURI(), status,
+                        RequestLogContext.getAuthResult(request), RequestLogContext.getMemberId(request), elapsedMs);
+            }
+        }
+    }
+
+    private boolean shouldLog(String sampleKey, int status, long elapsedMs) {
+        if (requestLogSettings.isDebug() || status >= 500 || elapsedMs >= requestLogSettings.getSlowThresholdMs()) {
+            return true;
+        }
+        // 인증/인가 실패는 드물고 추적이 필요하므로 샘플링하지 않음
+        if (status == HttpServletResponse.SC_UNAUTHORIZED || status == HttpServletResponse.SC_FORBIDDEN) {
+            return true;
+        }
+        return ThreadLocalRandom.current().nextDouble() < requestLogSettings.getSampleRate(sampleKey);
+    }
+
+    // 컨트롤러 매핑 패턴(/api/posts/{postId})으로 묶어서 경로 변수마다 따로 집계되지 않게 함 (컨트롤러까지 가지 않았으면 null)
+    // 집계에서는 매핑 패턴이 없는 요청을 UNMAPPED 하나로 묶음 (URI 를 그대로 쓰면 경로 변수마다 키가 생김)
+    private String resolvePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : null;
+    }
+}
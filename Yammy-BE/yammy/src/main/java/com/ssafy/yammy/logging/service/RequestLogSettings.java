@@ -0,0 +1,124 @@
+package com.ssafy.yammy.logging.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 요청 로그 샘플링 설정
+ * - 기본 샘플링 비율 + 엔드포인트(경로 패턴 접두사)별 비율, 느린 요청/5xx 는 항상 기록
+ * - 디버그 모드는 실행 중에 켜고 끌 수 있고(모든 요청 기록 + 인증 필터 DEBUG 로그), Pub/Sub 으로 모든 서버에 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestLogSettings implements MessageListener {
+
+    private final LoggingSystem loggingSystem;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String DEBUG_CHANNEL = "logging:request:debug";
+
+    // 디버그 모드에서 DEBUG 로 낮출 로거
+    private static final List<String> DEBUG_LOGGERS = List.of(
+            "com.ssafy.yammy.config.JwtAuthenticationFilter",
+            "com.ssafy.yammy.config.CustomUserDetailsService"
+    );
+
+    @Value("${request-log.sample-rate:0.01}")
+    private double defaultSampleRate;
+
+    // 형식: {경로 패턴 접두사}={비율},... (예: /api/auth=1.0,/api/posts=0.05)
+    @Value("${request-log.endpoint-sample-rates:}")
+    private String endpointSampleRates;
+
+    @Value("${request-log.slow-threshold-ms:1000}")
+    private long slowThresholdMs;
+
+    // 접두사가 긴 것부터 (가장 구체적인 설정 우선)
+    private final List<Map.Entry<String, Double>> endpointRates = new ArrayList<>();
+
+    private volatile boolean debug = false;
+
+    @PostConstruct
+    void init() {
+        for (String entry : endpointSampleRates.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                continue;
+            }
+            try {
+                endpointRates.add(Map.entry(parts[0].trim(), Double.parseDouble(parts[1].trim())));
+            } catch (NumberFormatException e) {
+                log.warn("[RequestLogSettings] 잘못된 샘플링 설정: {}", entry);
+            }
+        }
+        endpointRates.sort(Comparator.comparingInt((Map.Entry<String, Double> e) -> e.getKey().length()).reversed());
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(DEBUG_CHANNEL));
+    }
+
+    public double getSampleRate(String endpoint) {
+        for (Map.Entry<String, Double> entry : endpointRates) {
+            if (endpoint.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return defaultSampleRate;
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public double getDefaultSampleRate() {
+        return defaultSampleRate;
+    }
+
+    public Map<String, Double> getEndpointSampleRates() {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        endpointRates.forEach(entry -> rates.put(entry.getKey(), entry.getValue()));
+        return rates;
+    }
+
+    // 디버그 모드 변경 (모든 서버)
+    public void changeDebug(boolean enabled) {
+        applyDebug(enabled);
+        try {
+            stringRedisTemplate.convertAndSend(DEBUG_CHANNEL, String.valueOf(enabled));
+        } catch (Exception e) {
+            log.warn("[RequestLogSettings] 디버그 모드 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        applyDebug(Boolean.parseBoolean(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void applyDebug(boolean enabled) {
+        if (debug == enabled) {
+            return;
+        }
+        debug = enabled;
+        DEBUG_LOGGERS.forEach(name -> loggingSystem.setLogLevel(name, enabled ? LogLevel.DEBUG : null));
+        log.info("[RequestLogSettings] 요청 로그 디버그 모드: {}", enabled);
+    }
+}
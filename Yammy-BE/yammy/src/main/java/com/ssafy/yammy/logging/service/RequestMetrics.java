@@ -0,0 +1,75 @@
+package com.ssafy.yammy.logging.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 엔드포인트별 요청 수/오류 수/응답 시간 집계
+ * - 요청마다는 메모리 카운터만 올리고, 주기적으로 요약을 한 줄씩 기록 (샘플링과 무관하게 전체 요청 기준)
+ */
+@Slf4j
+@Component
+public class RequestMetrics {
+
+    private static final int SUMMARY_TOP_N = 20;
+
+    private final ConcurrentHashMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, int status, long elapsedMs) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+        endpointStats.count.increment();
+        endpointStats.totalMs.add(elapsedMs);
+        endpointStats.maxMs.accumulate(elapsedMs);
+        if (status == 401 || status == 403) {
+            endpointStats.authFailures.increment();
+        } else if (status >= 500) {
+            endpointStats.errors.increment();
+        }
+    }
+
+    // 요청 수가 많은 엔드포인트부터 요약 기록 후 초기화
+    @Scheduled(fixedDelayString = "${request-log.summary-interval-ms:60000}")
+    public void logSummary() {
+        List<Map.Entry<String, long[]>> snapshot = stats.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().drain()))
+                .filter(entry -> entry.getValue()[0] > 0)
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed())
+                .collect(Collectors.toList());
+
+        // 요청이 없던 엔드포인트 정리
+        stats.entrySet().removeIf(entry -> entry.getValue().isIdle());
+
+        snapshot.stream().limit(SUMMARY_TOP_N).forEach(entry -> {
+            long[] values = entry.getValue();
+            log.info("request-summary endpoint=\"{}\" count={} avgMs={} maxMs={} authFailures={} errors={}",
+                    entry.getKey(), values[0], values[1] / values[0], values[2], values[3], values[4]);
+        });
+    }
+
+    private static class EndpointStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+        private final LongAdder authFailures = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        // {요청 수, 총 응답 시간, 최대 응답 시간, 인증 실패 수, 5xx 수}
+        long[] drain() {
+            return new long[]{count.sumThenReset(), totalMs.sumThenReset(), maxMs.getThenReset(),
+                    authFailures.sumThenReset(), errors.sumThenReset()};
+        }
+
+        boolean isIdle() {
+            return count.sum() == 0;
+        }
+    }
+}
@@ -85,15 +85,33 @@ public class PostController {
      * 전체 피드 조회
      */
     @GetMapping("/all")
-    @Operation(summary = "전체 피드 조회", description = "모든 사용자의 게시글을 최신순으로 조회합니다. (커서 기반 페이징)")
+    @Operation(summary = "전체 피드 조회", description = "모든 사용자의 게시글을 최신순으로 조회합니다. team을 지정하면 해당 팀 팬의 게시글만 조회합니다. (커서 기반 페이징)")
     public ResponseEntity<PostListResponse> getAllPosts(
             @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String team,
             @AuthenticationPrincipal(errorOnInvalidType = false) CustomUserDetails userDetails) {
 
         Long memberId = userDetails != null ? userDetails.getMemberId() : null;
-        log.info("[PostController] GET /api/posts/all - cursor: {}, memberId: {}", cursor, memberId);
+        log.info("[PostController] GET /api/posts/all - cursor: {}, team: {}, memberId: {}", cursor, team, memberId);
 
-        PostListResponse response = postService.getAllPosts(cursor, memberId);
+        PostListResponse response = postService.getAllPosts(cursor, team, memberId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 인기 피드 조회
+     */
+    @GetMapping("/hot")
+    @Operation(summary = "인기 피드 조회", description = "최근 좋아요/댓글이 많은 게시글을 인기순으로 조회합니다. (cursor/cursorScore는 이전 응답의 nextCursor/nextCursorScore)")
+    public ResponseEntity<PostListResponse> getHotPosts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Double cursorScore,
+            @AuthenticationPrincipal(errorOnInvalidType = false) CustomUserDetails userDetails) {
+
+        Long memberId = userDetails != null ? userDetails.getMemberId() : null;
+        log.info("[PostController] GET /api/posts/hot - cursor: {}, cursorScore: {}, memberId: {}", cursor, cursorScore, memberId);
+
+        PostListResponse response = postService.getHotPosts(cursor, cursorScore, memberId);
         return ResponseEntity.ok(response);
     }
 
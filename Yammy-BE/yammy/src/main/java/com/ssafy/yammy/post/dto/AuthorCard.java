@@ -0,0 +1,32 @@
+package com.ssafy.yammy.post.dto;
+
+import com.ssafy.yammy.auth.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 카드에 표시되는 작성자 정보 캐시 항목
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorCard {
+    private Long memberId;
+    private String nickname;
+    private String profileImage;
+    private String team;
+    private String bio;
+
+    public static AuthorCard from(Member member) {
+        return AuthorCard.builder()
+                .memberId(member.getMemberId())
+                .nickname(member.getNickname())
+                .profileImage(member.getProfileImage())
+                .team(member.getTeam())
+                .bio(member.getBio())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.yammy.post.dto;
+
+import com.ssafy.yammy.post.entity.Post;
+import com.ssafy.yammy.post.entity.PostImage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 카드 캐시 항목 (조회자와 무관한 부분만)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCard {
+    private Long postId;
+    private Long memberId;
+    private String caption;
+    private List<String> imageUrls;  // image_order 순서
+
+    public static PostCard of(Post post, List<PostImage> postImages) {
+        List<String> imageUrls = postImages.stream()
+                .sorted(Comparator.comparing(PostImage::getImageOrder))
+                .map(PostImage::getImageUrl)
+                .collect(Collectors.toList());
+
+        return PostCard.builder()
+                .postId(post.getId())
+                .memberId(post.getMemberId())
+                .caption(post.getCaption())
+                .imageUrls(imageUrls)
+                .build();
+    }
+}
@@ -16,4 +16,7 @@ public class PostListResponse {
     private List<PostResponse> posts;
     private Long nextCursor;  // 다음 페이지의 커서 (마지막 게시글 ID)
     private Boolean hasNext;  // 다음 페이지 존재 여부
+
+    // 인기 피드 응답에만 채움 (nextCursor 게시글의 랭킹 점수, 다음 요청의 cursorScore 로 그대로 전달)
+    private Double nextCursorScore;
 }
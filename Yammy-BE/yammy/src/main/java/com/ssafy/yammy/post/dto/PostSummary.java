@@ -0,0 +1,34 @@
+package com.ssafy.yammy.post.dto;
+
+import com.ssafy.yammy.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 조회용 게시글 프로젝션 (엔티티/캡션 없이 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+    private Long id;
+    private Long memberId;
+    private String team;
+    private Integer likeCount;
+    private Integer commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PostSummary from(Post post) {
+        return new PostSummary(
+                post.getId(),
+                post.getMemberId(),
+                post.getTeam(),
+                post.getLikeCount(),
+                post.getCommentCount(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+}
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post",
+        indexes = {
+                @Index(name = "idx_post_member_id_id", columnList = "member_id, id"),
+                @Index(name = "idx_post_team_id", columnList = "team, id")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,6 +24,10 @@ public class Post {
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
+    // 작성 시점의 작성자 응원팀 (팀별 피드용 비정규화 컬럼)
+    @Column(length = 20)
+    private String team;
+
     @Column(columnDefinition = "TEXT")
     private String caption;
 
@@ -52,28 +60,4 @@ public class Post {
     public void updateCaption(String caption) {
         this.caption = caption;
     }
-
-    // 좋아요 수 증가
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    // 좋아요 수 감소
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    // 댓글 수 증가
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-
-    // 댓글 수 감소
-    public void decrementCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
 }
@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post_image")
+@Table(name = "post_image",
+        indexes = @Index(name = "idx_post_image_post_id_order", columnList = "post_id, image_order"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "member_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,176 @@
+package com.ssafy.yammy.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 홈 피드 타임라인 저장소 (Redis Sorted Set)
+ * - key: feed:timeline:{memberId}, member/score: 게시글 ID
+ * - 완료 마커(0)가 있으면 타임라인이 전체 이력을 담고 있다는 뜻 (잘리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedTimelineRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String TIMELINE_PREFIX = "feed:timeline:";
+    private static final String CELEBRITY_KEY = "feed:celebrities";
+    private static final String COMPLETE_MARKER = "0";
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+    // 타임라인이 이미 만들어진 경우에만 추가하고 최대 길이를 넘는 오래된 항목은 잘라냄
+    private static final byte[] PUSH_IF_EXISTS_SCRIPT = (
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1]) " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1)) " +
+            "  return 1 " +
+            "end " +
+            "return 0"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    // 타임라인 존재 여부
+    public boolean exists(Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(memberId)));
+    }
+
+    // 타임라인이 잘리지 않고 전체 이력을 담고 있는지
+    public boolean isComplete(Long memberId) {
+        return redisTemplate.opsForZSet().score(key(memberId), COMPLETE_MARKER) != null;
+    }
+
+    // 커서 이전 게시글 ID 조회 (최신순)
+    public List<Long> findPostIds(Long memberId, Long cursor, int limit) {
+        double max = cursor != null ? cursor - 1 : Double.POSITIVE_INFINITY;
+        Set<String> values = redisTemplate.opsForZSet().reverseRangeByScore(key(memberId), 1, max, 0, limit);
+        if (values == null) {
+            return new ArrayList<>();
+        }
+        return values.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    // 타임라인 재구성 (기존 내용 교체)
+    public void rebuild(Long memberId, List<Long> postIds, boolean complete) {
+        String key = key(memberId);
+        Set<ZSetOperations.TypedTuple<String>> tuples = postIds.stream()
+                .map(id -> new DefaultTypedTuple<>(String.valueOf(id), id.doubleValue()))
+                .collect(Collectors.toSet());
+        if (complete) {
+            tuples.add(new DefaultTypedTuple<>(COMPLETE_MARKER, 0d));
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                operations.delete(key);
+                if (!tuples.isEmpty()) {
+                    operations.opsForZSet().add(key, tuples);
+                    operations.expire(key, TIMELINE_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    // 여러 회원의 타임라인에 게시글 추가 (이미 만들어진 타임라인만)
+    public void push(Collection<Long> memberIds, Long postId, int maxSize) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] postIdBytes = serializer.serialize(String.valueOf(postId));
+        byte[] maxSizeBytes = serializer.serialize(String.valueOf(maxSize));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                evalPush(connection, serializer.serialize(key(memberId)), postIdBytes, maxSizeBytes);
+            }
+            return null;
+        });
+    }
+
+    // 여러 회원의 타임라인에서 게시글 제거
+    public void remove(Collection<Long> memberIds, Long postId) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        String value = String.valueOf(postId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (Long memberId : memberIds) {
+                    operations.opsForZSet().remove(key(memberId), value);
+                }
+                return null;
+            }
+        });
+    }
+
+    // 여러 회원의 타임라인에서 여러 게시글 제거
+    public void removeAll(Collection<Long> memberIds, Collection<Long> postIds) {
+        if (memberIds.isEmpty() || postIds.isEmpty()) {
+            return;
+        }
+        Object[] values = postIds.stream().map(String::valueOf).toArray();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (Long memberId : memberIds) {
+                    operations.opsForZSet().remove(key(memberId), values);
+                }
+                return null;
+            }
+        });
+    }
+
+    // 타임라인 삭제 (다음 조회 시 재구성)
+    public void evict(Long memberId) {
+        redisTemplate.delete(key(memberId));
+    }
+
+    // 셀럽(팔로워가 많아 fan-out 하지 않는 회원) 등록
+    public void addCelebrity(Long memberId) {
+        redisTemplate.opsForSet().add(CELEBRITY_KEY, String.valueOf(memberId));
+    }
+
+    public boolean isCelebrity(Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITY_KEY, String.valueOf(memberId)));
+    }
+
+    public Set<Long> findCelebrityIds() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITY_KEY);
+        if (members == null) {
+            return new HashSet<>();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private void evalPush(RedisConnection connection, byte[] key, byte[] postId, byte[] maxSize) {
+        connection.scriptingCommands().eval(PUSH_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1, key, postId, maxSize);
+    }
+
+    private String key(Long memberId) {
+        return TIMELINE_PREFIX + memberId;
+    }
+}
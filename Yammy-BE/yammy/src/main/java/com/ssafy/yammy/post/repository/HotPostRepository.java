@@ -0,0 +1,126 @@
+package com.ssafy.yammy.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인기 게시글 랭킹 저장소 (Redis Sorted Set)
+ * - 점수는 시간 감쇠된 가중치 합의 로그값: ln(Σ weight × e^(t / tau))
+ * - 최근 이벤트일수록 지수적으로 큰 값이 더해지므로 오래된 점수는 상대적으로 자연 감쇠
+ * - 로그 공간에서 더하기 때문에 시간이 지나도 overflow 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class HotPostRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String HOT_KEY = "feed:hot";
+
+    // score = logaddexp(score, ARGV[2]) 후 상위 ARGV[3]개만 유지
+    private static final RedisScript<Long> ADD_SCORE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "local add = tonumber(ARGV[2]) " +
+            "local score = add " +
+            "if cur then " +
+            "  cur = tonumber(cur) " +
+            "  local hi = math.max(cur, add) " +
+            "  local lo = math.min(cur, add) " +
+            "  score = hi + math.log(1 + math.exp(lo - hi)) " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], string.format('%.17g', score), ARGV[1]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "return 1",
+            Long.class);
+
+    // score = log(e^score - e^ARGV[2]) (더했던 점수를 그대로 빼기, 남는 점수가 없으면 랭킹에서 제거)
+    private static final RedisScript<Long> SUBTRACT_SCORE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not cur then return 0 end " +
+            "cur = tonumber(cur) " +
+            "local sub = tonumber(ARGV[2]) " +
+            "if cur <= sub then " +
+            "  redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "local score = cur + math.log(1 - math.exp(sub - cur)) " +
+            "redis.call('ZADD', KEYS[1], 'XX', string.format('%.17g', score), ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // (점수, 게시글 ID) 커서 다음부터 점수 높은 순으로 ARGV[3]개 조회 (member, score 순서로 평평하게 반환)
+    // 같은 점수는 ZREVRANGEBYSCORE 와 같은 순서(member 문자열 내림차순)로 커서 member 보다 작은 것만 이어서 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_AFTER_SCRIPT = new DefaultRedisScript<>(
+            "local max = ARGV[1] " +
+            "local limit = tonumber(ARGV[3]) " +
+            "local result = {} " +
+            "if ARGV[2] ~= '' then " +
+            "  for _, member in ipairs(redis.call('ZREVRANGEBYSCORE', KEYS[1], max, max)) do " +
+            "    if #result >= limit * 2 then break end " +
+            "    if member < ARGV[2] then " +
+            "      table.insert(result, member) " +
+            "      table.insert(result, max) " +
+            "    end " +
+            "  end " +
+            "  max = '(' .. max " +
+            "end " +
+            "local remaining = limit - #result / 2 " +
+            "if remaining > 0 then " +
+            "  local rest = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, '-inf', 'WITHSCORES', 'LIMIT', 0, remaining) " +
+            "  for _, value in ipairs(rest) do table.insert(result, value) end " +
+            "end " +
+            "return result",
+            List.class);
+
+    // 로그 공간 점수 추가
+    public void addScore(Long postId, double logScore, int maxSize) {
+        redisTemplate.execute(ADD_SCORE_SCRIPT, List.of(HOT_KEY),
+                String.valueOf(postId), String.valueOf(logScore), String.valueOf(maxSize));
+    }
+
+    // 로그 공간 점수 빼기 (랭킹에 없으면 무시)
+    public void subtractScore(Long postId, double logScore) {
+        redisTemplate.execute(SUBTRACT_SCORE_SCRIPT, List.of(HOT_KEY),
+                String.valueOf(postId), String.valueOf(logScore));
+    }
+
+    // 점수 높은 순으로 (cursorScore, cursorPostId) 다음부터 limit개 조회 (커서가 null 이면 처음부터)
+    // 순위(offset) 대신 점수를 기준으로 이어가므로, 페이지 사이에 점수가 바뀌어도 같은 게시글이 중복되거나 밀려나지 않음
+    public List<RankedPost> findPostsAfter(Double cursorScore, Long cursorPostId, int limit) {
+        boolean first = cursorScore == null || cursorPostId == null;
+        List<?> values = redisTemplate.execute(FIND_AFTER_SCRIPT, List.of(HOT_KEY),
+                first ? "+inf" : String.valueOf(cursorScore),
+                first ? "" : String.valueOf(cursorPostId),
+                String.valueOf(limit));
+        List<RankedPost> result = new ArrayList<>();
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            result.add(new RankedPost(Long.valueOf((String) values.get(i)), Double.parseDouble((String) values.get(i + 1))));
+        }
+        return result;
+    }
+
+    public void remove(Long postId) {
+        redisTemplate.opsForZSet().remove(HOT_KEY, String.valueOf(postId));
+    }
+
+    public record RankedPost(Long postId, double score) {
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(HOT_KEY, postIds.stream().map(String::valueOf).toArray());
+    }
+}
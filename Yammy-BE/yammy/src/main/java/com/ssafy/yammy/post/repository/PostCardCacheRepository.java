@@ -0,0 +1,101 @@
+package com.ssafy.yammy.post.repository;
+
+import com.ssafy.yammy.post.dto.AuthorCard;
+import com.ssafy.yammy.post.dto.PostCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 카드 / 작성자 카드 Redis 캐시 (2차 캐시)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCardCacheRepository {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static final String INVALIDATION_CHANNEL = "post:card:invalidate";
+    private static final String POST_CARD_PREFIX = "post:card:";
+    private static final String AUTHOR_CARD_PREFIX = "post:author:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    public Map<Long, PostCard> findPostCards(Collection<Long> postIds) {
+        return multiGet(POST_CARD_PREFIX, postIds, PostCard.class);
+    }
+
+    public Map<Long, AuthorCard> findAuthorCards(Collection<Long> memberIds) {
+        return multiGet(AUTHOR_CARD_PREFIX, memberIds, AuthorCard.class);
+    }
+
+    public void savePostCards(Collection<PostCard> cards) {
+        multiSet(POST_CARD_PREFIX, cards, PostCard::getPostId);
+    }
+
+    public void saveAuthorCards(Collection<AuthorCard> cards) {
+        multiSet(AUTHOR_CARD_PREFIX, cards, AuthorCard::getMemberId);
+    }
+
+    public void deletePostCard(Long postId) {
+        redisTemplate.delete(POST_CARD_PREFIX + postId);
+    }
+
+    public void deleteAuthorCard(Long memberId) {
+        redisTemplate.delete(AUTHOR_CARD_PREFIX + memberId);
+    }
+
+    // 다른 서버의 1차(로컬) 캐시 무효화 알림
+    public void publishInvalidation(String message) {
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    }
+
+    private <T> Map<Long, T> multiGet(String prefix, Collection<Long> ids, Class<T> type) {
+        Map<Long, T> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        List<Long> idList = new ArrayList<>(ids);
+        List<String> keys = idList.stream()
+                .map(id -> prefix + id)
+                .collect(Collectors.toList());
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < idList.size(); i++) {
+            Object value = values.get(i);
+            if (type.isInstance(value)) {
+                result.put(idList.get(i), type.cast(value));
+            }
+        }
+        return result;
+    }
+
+    private <T> void multiSet(String prefix, Collection<T> cards, Function<T, Long> idExtractor) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (T card : cards) {
+                    operations.opsForValue().set(prefix + idExtractor.apply(card), card, TTL);
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.yammy.post.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+// 게시글 카운트 일괄 반영 (게시글마다 증감분이 달라 JPQL 벌크 UPDATE 한 번으로 표현할 수 없어 JDBC로 직접 처리)
+public interface PostCountBatchRepository {
+
+    // 여러 게시글의 좋아요 수를 각자의 증감분만큼 UPDATE 한 번으로 반영 (0 미만으로 내려가지 않음)
+    // 500개 단위로 나눠 실행하므로 중간에 실패해도 전부 롤백되도록 트랜잭션으로 묶음
+    @Transactional
+    void addLikeCounts(Map<Long, Integer> deltas);
+}
@@ -0,0 +1,18 @@
+package com.ssafy.yammy.post.repository;
+
+import com.ssafy.yammy.global.util.CountDeltaUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PostCountBatchRepositoryImpl implements PostCountBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addLikeCounts(Map<Long, Integer> deltas) {
+        CountDeltaUpdater.addAll(jdbcTemplate, "post", "like_count", deltas);
+    }
+}
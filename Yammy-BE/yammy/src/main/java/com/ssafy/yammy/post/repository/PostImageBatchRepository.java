@@ -0,0 +1,12 @@
+package com.ssafy.yammy.post.repository;
+
+import com.ssafy.yammy.post.entity.PostImage;
+
+import java.util.List;
+
+// PostImage 일괄 저장 (IDENTITY 전략이라 Hibernate 배치가 동작하지 않아 JDBC로 직접 처리)
+public interface PostImageBatchRepository {
+
+    // 여러 이미지를 INSERT 한 번으로 저장
+    void insertAll(List<PostImage> postImages);
+}
@@ -0,0 +1,41 @@
+package com.ssafy.yammy.post.repository;
+
+import com.ssafy.yammy.post.entity.PostImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostImageBatchRepositoryImpl implements PostImageBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_PREFIX = "INSERT INTO post_image (post_id, image_url, image_order, created_at) VALUES ";
+    private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?)";
+
+    // 드라이버 옵션(rewriteBatchedStatements)과 무관하게 한 번의 왕복으로 끝나도록 multi-row INSERT 사용
+    @Override
+    public void insertAll(List<PostImage> postImages) {
+        if (postImages.isEmpty()) {
+            return;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(postImages.size(), VALUES_PLACEHOLDER));
+
+        List<Object> args = new ArrayList<>(postImages.size() * 4);
+        for (PostImage postImage : postImages) {
+            LocalDateTime createdAt = postImage.getCreatedAt() != null ? postImage.getCreatedAt() : LocalDateTime.now();
+            args.add(postImage.getPostId());
+            args.add(postImage.getImageUrl());
+            args.add(postImage.getImageOrder());
+            args.add(Timestamp.valueOf(createdAt));
+        }
+
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -2,12 +2,15 @@ package com.ssafy.yammy.post.repository;
 
 import com.ssafy.yammy.post.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+public interface PostImageRepository extends JpaRepository<PostImage, Long>, PostImageBatchRepository {
 
     // 특정 게시글의 이미지 목록 조회 (순서대로)
     List<PostImage> findByPostIdOrderByImageOrder(Long postId);
@@ -15,6 +18,13 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     // 게시글 ID 리스트에 해당하는 모든 이미지 조회
     List<PostImage> findByPostIdIn(List<Long> postIds);
 
-    // 게시글 삭제 시 이미지도 함께 삭제
-    void deleteByPostId(Long postId);
+    // 게시글 삭제/이미지 교체 시 이미지 일괄 삭제 (조회 없이 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM PostImage pi WHERE pi.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 여러 게시글의 이미지 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM PostImage pi WHERE pi.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") List<Long> postIds);
 }
@@ -2,10 +2,12 @@ package com.ssafy.yammy.post.repository;
 
 import com.ssafy.yammy.post.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,41 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 좋아요 삭제
     void deleteByPostIdAndMemberId(Long postId, Long memberId);
 
+    // 좋아요 삭제 (조회 없이 바로 삭제, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.postId = :postId AND pl.memberId = :memberId")
+    int deleteLike(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    // 좋아요 저장 (이미 있으면 무시, 저장된 행 수 반환)
+    // 같은 회원의 좋아요 요청이 동시에 와도 유니크 제약 예외 없이 한 건만 저장됨
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, member_id, created_at) VALUES (:postId, :memberId, :createdAt)",
+            nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("memberId") Long memberId, @Param("createdAt") LocalDateTime createdAt);
+
+    // 좋아요 시각 조회 (좋아요 취소 시 인기 점수에서 같은 만큼 빼기 위함)
+    @Query("SELECT pl.createdAt FROM PostLike pl WHERE pl.postId = :postId AND pl.memberId = :memberId")
+    Optional<LocalDateTime> findCreatedAt(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    // 게시글 삭제 시 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 회원이 좋아요한 게시글 ID 조회 (탈퇴 회원 콘텐츠 정리용, 청크 단위)
+    // 잠금 조회라 같은 회원 정리가 겹쳐도 한쪽이 커밋할 때까지 기다렸다가 남은 행만 가져감 (좋아요 수 중복 차감 방지)
+    @Query(value = "SELECT post_id FROM post_like WHERE member_id = :memberId ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findPostIdsByMemberIdForUpdate(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.memberId = :memberId AND pl.postId IN :postIds")
+    int deleteByMemberIdAndPostIdIn(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
+
     // 게시글의 좋아요 수
     long countByPostId(Long postId);
 
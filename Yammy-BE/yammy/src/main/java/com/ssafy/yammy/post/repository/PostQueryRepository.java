@@ -0,0 +1,161 @@
+package com.ssafy.yammy.post.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.yammy.post.dto.AuthorCard;
+import com.ssafy.yammy.post.dto.PostCard;
+import com.ssafy.yammy.post.dto.PostSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+import static com.ssafy.yammy.auth.entity.QMember.member;
+import static com.ssafy.yammy.post.entity.QPost.post;
+import static com.ssafy.yammy.post.entity.QPostImage.postImage;
+
+/**
+ * 피드용 QueryDSL 프로젝션 쿼리
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 DTO로 조회 (스냅샷/더티체킹 비용 없음)
+ * - 커서 조건은 커서가 있을 때만 "id < 커서"로 붙임 ("(:cursor IS NULL OR id < :cursor)" 형태는 MySQL 인덱스 범위 검색을 막음)
+ * - 피드 쿼리별 인덱스 사용 여부는 PostFeedQueryPlanTest 에서 EXPLAIN 으로 확인
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 전체 피드 (최신순, 커서 기반, team이 있으면 해당 팀 게시글만 - (team, id) 인덱스)
+    public List<PostSummary> findAllSummaries(String team, Long cursor, int limit) {
+        return queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .where(teamEq(team), idLessThan(cursor))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 특정 사용자의 게시글 (최신순, 커서 기반)
+    public List<PostSummary> findSummariesByMemberId(Long memberId, Long cursor, int limit) {
+        return queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .where(post.memberId.eq(memberId), idLessThan(cursor))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 내 피드 게시글 ID 조회 (타임라인 구성용, 최신순) - (member_id, id) 인덱스만으로 처리
+    public List<Long> findIdsByMemberIds(List<Long> memberIds, Long cursor, int limit) {
+        if (memberIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.memberId.in(memberIds), idLessThan(cursor))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 게시글 ID 목록으로 조회 (입력 순서 유지, 없는 게시글은 제외)
+    public List<PostSummary> findSummariesByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PostSummary> summaryMap = new HashMap<>();
+        queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .where(post.id.in(postIds))
+                .fetch()
+                .forEach(summary -> summaryMap.put(summary.getId(), summary));
+
+        List<PostSummary> result = new ArrayList<>();
+        for (Long postId : postIds) {
+            PostSummary summary = summaryMap.get(postId);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    // 게시글 카드 (캡션 + 앞쪽 maxImages장 이미지) 한 번의 쿼리로 조회
+    public Map<Long, PostCard> findPostCards(Collection<Long> postIds, int maxImages) {
+        Map<Long, PostCard> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.memberId, post.caption, postImage.imageUrl)
+                .from(post)
+                .leftJoin(postImage).on(postImage.postId.eq(post.id), postImage.imageOrder.loe(maxImages))
+                .where(post.id.in(postIds))
+                .orderBy(post.id.asc(), postImage.imageOrder.asc())
+                .fetch();
+
+        for (Tuple row : rows) {
+            Long postId = row.get(post.id);
+            PostCard card = result.computeIfAbsent(postId, id -> PostCard.builder()
+                    .postId(id)
+                    .memberId(row.get(post.memberId))
+                    .caption(row.get(post.caption))
+                    .imageUrls(new ArrayList<>())
+                    .build());
+
+            String imageUrl = row.get(postImage.imageUrl);
+            if (imageUrl != null) {
+                card.getImageUrls().add(imageUrl);
+            }
+        }
+        return result;
+    }
+
+    // 작성자 카드 (Member 엔티티 대신 필요한 컬럼만, point 연관관계 로딩 없음)
+    public List<AuthorCard> findAuthorCards(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return queryFactory
+                .select(Projections.constructor(AuthorCard.class,
+                        member.memberId,
+                        member.nickname,
+                        member.profileImage,
+                        member.team,
+                        member.bio))
+                .from(member)
+                .where(member.memberId.in(memberIds))
+                .fetch();
+    }
+
+    private ConstructorExpression<PostSummary> summaryProjection() {
+        return Projections.constructor(PostSummary.class,
+                post.id,
+                post.memberId,
+                post.team,
+                post.likeCount,
+                post.commentCount,
+                post.createdAt,
+                post.updatedAt);
+    }
+
+    private BooleanExpression teamEq(String team) {
+        return team != null ? post.team.eq(team) : null;
+    }
+
+    private BooleanExpression idLessThan(Long cursor) {
+        return cursor != null ? post.id.lt(cursor) : null;
+    }
+}
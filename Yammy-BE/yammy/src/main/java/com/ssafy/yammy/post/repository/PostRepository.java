@@ -3,27 +3,59 @@ package com.ssafy.yammy.post.repository;
 import com.ssafy.yammy.post.entity.Post;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostCountBatchRepository {
 
-    // 전체 피드 조회 (최신순, 커서 기반 페이징)
-    @Query("SELECT p FROM Post p WHERE (:cursor IS NULL OR p.id < :cursor) ORDER BY p.id DESC")
-    List<Post> findAllWithCursor(@Param("cursor") Long cursor, Pageable pageable);
-
-    // 내 피드 조회 (나 + 팔로우한 사람들, 최신순, 커서 기반 페이징)
-    @Query("SELECT p FROM Post p WHERE p.memberId IN :memberIds AND (:cursor IS NULL OR p.id < :cursor) ORDER BY p.id DESC")
-    List<Post> findByMemberIdsWithCursor(@Param("memberIds") List<Long> memberIds, @Param("cursor") Long cursor, Pageable pageable);
-
-    // 특정 사용자의 게시글 조회 (프로필 페이지용)
-    @Query("SELECT p FROM Post p WHERE p.memberId = :memberId AND (:cursor IS NULL OR p.id < :cursor) ORDER BY p.id DESC")
-    List<Post> findByMemberIdWithCursor(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+    // 피드 조회(본문, 타임라인 게시글 ID)는 모두 PostQueryRepository 에서 처리
 
     // 사용자별 게시글 수
     long countByMemberId(Long memberId);
+
+    // 회원 게시글 ID 조회 (탈퇴 회원 콘텐츠 정리용, 청크 단위)
+    @Query("SELECT p.id FROM Post p WHERE p.memberId = :memberId ORDER BY p.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 게시글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id IN :postIds")
+    int deleteAllByIdIn(@Param("postIds") List<Long> postIds);
+
+    // team 컬럼이 비어있는 기존 게시글에 작성자 응원팀 채우기 (한 번에 limit 건씩, 응원팀이 없는 작성자의 글은 제외)
+    // (team, id) 인덱스로 team IS NULL 인 행만 찾으므로, 채울 게시글이 없으면 바로 0 반환
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post SET team = (SELECT m.team FROM member m WHERE m.member_id = post.member_id) " +
+            "WHERE team IS NULL " +
+            "AND EXISTS (SELECT 1 FROM member m WHERE m.member_id = post.member_id AND m.team IS NOT NULL) " +
+            "ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    int backfillTeam(@Param("limit") int limit);
+
+    // 여러 게시글의 (게시글 ID, 좋아요 수) 조회 (엔티티 로딩 없이)
+    @Query("SELECT p.id, p.likeCount FROM Post p WHERE p.id IN :postIds")
+    List<Object[]> findLikeCountsByIdIn(@Param("postIds") List<Long> postIds);
+
+    // 여러 게시글의 좋아요 수 1씩 차감 (탈퇴 회원 좋아요 정리용, UPDATE 한 번, 0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = CASE WHEN p.likeCount > 0 THEN p.likeCount - 1 ELSE 0 END WHERE p.id IN :postIds")
+    int decrementLikeCounts(@Param("postIds") List<Long> postIds);
+
+    // 여러 게시글의 댓글 수를 같은 값만큼 증감 (탈퇴 회원 댓글 정리 시 차감량이 같은 게시글끼리 묶어서 반영)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END WHERE p.id IN :postIds")
+    int addCommentCounts(@Param("postIds") List<Long> postIds, @Param("delta") int delta);
+
+    // 댓글 수 증감 (엔티티 로딩 없이 원자적으로 반영, 0 미만으로 내려가지 않음)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
 }
@@ -0,0 +1,41 @@
+package com.ssafy.yammy.post.scheduler;
+
+import com.ssafy.yammy.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 team 컬럼이 비어있는 기존 게시글에 작성자 응원팀을 채움
+ * (팀별 피드 컬럼 추가 이전에 작성된 게시글 대상, 이미 채워져 있으면 첫 조회에서 바로 종료)
+ * - 한 번에 BATCH_SIZE 건씩 나눠 커밋해서 긴 트랜잭션/대량 잠금을 피함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTeamBackfillInitializer {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final PostRepository postRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPostTeams() {
+        try {
+            int total = 0;
+            int updated;
+            do {
+                updated = postRepository.backfillTeam(BATCH_SIZE);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Server startup - post team backfill completed: {} rows", total);
+            }
+        } catch (Exception e) {
+            log.error("Server startup - post team backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
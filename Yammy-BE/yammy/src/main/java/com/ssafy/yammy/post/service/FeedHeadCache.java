@@ -0,0 +1,45 @@
+package com.ssafy.yammy.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import com.ssafy.yammy.post.dto.PostSummary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 전체/팀별 피드 첫 페이지 로컬 캐시
+ * - 경기 중에는 같은 팀 첫 페이지 요청이 몰리므로 몇 초간 결과를 재사용
+ * - 게시글 작성/삭제 시 해당 팀과 전체 피드 캐시를 비움 (트랜잭션 안이면 커밋 후에 비움)
+ */
+@Component
+public class FeedHeadCache {
+
+    private static final String ALL_TEAMS = "*";
+
+    private final Cache<String, List<PostSummary>> headPages = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(Duration.ofSeconds(5))
+            .build();
+
+    public List<PostSummary> get(String team, Supplier<List<PostSummary>> loader) {
+        return headPages.get(key(team), k -> List.copyOf(loader.get()));
+    }
+
+    // 커밋 전에 비우면 그 사이 조회가 커밋 전 상태를 다시 캐싱할 수 있음
+    public void evict(String team) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            headPages.invalidate(ALL_TEAMS);
+            if (team != null) {
+                headPages.invalidate(team);
+            }
+        });
+    }
+
+    private String key(String team) {
+        return team != null ? team : ALL_TEAMS;
+    }
+}
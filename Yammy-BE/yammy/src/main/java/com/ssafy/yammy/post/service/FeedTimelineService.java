@@ -0,0 +1,182 @@
+package com.ssafy.yammy.post.service;
+
+import com.ssafy.yammy.auth.service.MemberStatsService;
+import com.ssafy.yammy.follow.repository.FollowRepository;
+import com.ssafy.yammy.follow.service.FollowGraphIndex;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import com.ssafy.yammy.post.repository.FeedTimelineRepository;
+import com.ssafy.yammy.post.repository.PostQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 피드 타임라인 관리 (fan-out-on-write + 셀럽 fan-out-on-read)
+ * - 게시글 작성 시 팔로워 타임라인에 미리 넣어두고, 조회 시에는 타임라인에서 페이지만큼만 읽음
+ * - 팔로워가 임계치를 넘는 셀럽의 게시글은 fan-out 하지 않고 조회 시점에 병합
+ * - Redis 장애 시에는 기존 방식(DB 직접 조회)으로 동작
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedTimelineService {
+
+    private final FeedTimelineRepository feedTimelineRepository;
+    private final FollowRepository followRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final MemberStatsService memberStatsService;
+    private final FollowGraphIndex followGraphIndex;
+
+    @Value("${feed.timeline.celebrity-threshold:5000}")
+    private long celebrityThreshold;
+
+    @Value("${feed.timeline.max-size:800}")
+    private int maxSize;
+
+    // 게시글 작성 시 타임라인에 배포 (커밋 후, 롤백된 게시글이나 커밋 전 게시글이 타임라인에 보이지 않도록)
+    public void fanOut(Long authorId, Long postId) {
+        TransactionCallbacks.runAfterCommit(() -> pushToTimelines(authorId, postId));
+    }
+
+    // 게시글 삭제 시 타임라인에서 제거 (커밋 후)
+    public void remove(Long authorId, Long postId) {
+        TransactionCallbacks.runAfterCommit(() -> removeFromTimelines(authorId, postId));
+    }
+
+    // 탈퇴 회원 게시글 일괄 제거 (작성자와 팔로워 타임라인에서, 커밋 후)
+    public void removeAll(Long authorId, List<Long> postIds) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            try {
+                List<Long> targetIds = new ArrayList<>();
+                targetIds.add(authorId);
+                targetIds.addAll(followRepository.findFollowerIdsByFollowingId(authorId));
+                feedTimelineRepository.removeAll(targetIds, postIds);
+            } catch (Exception e) {
+                log.warn("[FeedTimelineService] 타임라인 일괄 제거 실패: authorId={}, posts={}, error={}", authorId, postIds.size(), e.getMessage());
+            }
+        });
+    }
+
+    private void pushToTimelines(Long authorId, Long postId) {
+        try {
+            List<Long> targetIds = new ArrayList<>();
+            targetIds.add(authorId);
+
+            if (isCelebrity(authorId)) {
+                // 셀럽은 본인 타임라인에만 넣고, 팔로워는 조회 시점에 병합
+                feedTimelineRepository.push(targetIds, postId, maxSize);
+                return;
+            }
+
+            targetIds.addAll(followRepository.findFollowerIdsByFollowingId(authorId));
+            feedTimelineRepository.push(targetIds, postId, maxSize);
+        } catch (Exception e) {
+            log.warn("[FeedTimelineService] 타임라인 배포 실패: authorId={}, postId={}, error={}", authorId, postId, e.getMessage());
+        }
+    }
+
+    private void removeFromTimelines(Long authorId, Long postId) {
+        try {
+            List<Long> targetIds = new ArrayList<>();
+            targetIds.add(authorId);
+            if (!feedTimelineRepository.isCelebrity(authorId)) {
+                targetIds.addAll(followRepository.findFollowerIdsByFollowingId(authorId));
+            }
+            feedTimelineRepository.remove(targetIds, postId);
+        } catch (Exception e) {
+            log.warn("[FeedTimelineService] 타임라인 제거 실패: authorId={}, postId={}, error={}", authorId, postId, e.getMessage());
+        }
+    }
+
+    // 팔로우 관계가 바뀌면 타임라인을 비워 다음 조회 때 재구성
+    // 커밋 전에 지우면 동시 조회가 커밋 전 팔로우 목록으로 재구성해 TTL 동안 남으므로 커밋 후에 삭제
+    public void evict(Long memberId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            try {
+                feedTimelineRepository.evict(memberId);
+            } catch (Exception e) {
+                log.warn("[FeedTimelineService] 타임라인 삭제 실패: memberId={}, error={}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    // 내 피드 게시글 ID 조회 (최신순, 최대 limit개)
+    public List<Long> getFeedPostIds(Long memberId, Long cursor, int limit) {
+        try {
+            if (!feedTimelineRepository.exists(memberId)) {
+                rebuild(memberId);
+            }
+
+            List<Long> postIds = feedTimelineRepository.findPostIds(memberId, cursor, limit);
+
+            // 타임라인 보관 범위를 넘어선 깊은 페이지는 DB에서 직접 조회
+            if (postIds.size() < limit && !feedTimelineRepository.isComplete(memberId)) {
+                return findFromDatabase(memberId, cursor, limit);
+            }
+
+            return mergeCelebrityPosts(memberId, postIds, cursor, limit);
+        } catch (Exception e) {
+            log.warn("[FeedTimelineService] 타임라인 조회 실패, DB 조회로 대체: memberId={}, error={}", memberId, e.getMessage());
+            return findFromDatabase(memberId, cursor, limit);
+        }
+    }
+
+    // 타임라인 재구성 (셀럽 게시글은 제외)
+    // 팔로우 목록은 DB 에서 읽음 (메모리 인덱스는 다른 서버의 변경이 Pub/Sub 으로 늦게 반영되어, 재구성 결과가 TTL 동안 남을 수 있음)
+    private void rebuild(Long memberId) {
+        Set<Long> celebrityIds = feedTimelineRepository.findCelebrityIds();
+        List<Long> sourceIds = followRepository.findFollowingIdsByFollowerId(memberId).stream()
+                .filter(id -> !celebrityIds.contains(id))
+                .collect(Collectors.toList());
+        sourceIds.add(memberId);
+
+        List<Long> postIds = postQueryRepository.findIdsByMemberIds(sourceIds, null, maxSize);
+        feedTimelineRepository.rebuild(memberId, postIds, postIds.size() < maxSize);
+    }
+
+    // 팔로우한 셀럽의 게시글을 조회 시점에 병합
+    private List<Long> mergeCelebrityPosts(Long memberId, List<Long> postIds, Long cursor, int limit) {
+        Set<Long> celebrityIds = feedTimelineRepository.findCelebrityIds();
+        celebrityIds.remove(memberId);
+        if (celebrityIds.isEmpty()) {
+            return postIds;
+        }
+
+        List<Long> followedCelebrityIds = new ArrayList<>(followGraphIndex.filterFollowing(memberId, celebrityIds));
+        if (followedCelebrityIds.isEmpty()) {
+            return postIds;
+        }
+
+        List<Long> celebrityPostIds = postQueryRepository.findIdsByMemberIds(followedCelebrityIds, cursor, limit);
+
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(postIds);
+        merged.addAll(celebrityPostIds);
+        return merged.stream()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // fan-out-on-read (기존 방식)
+    private List<Long> findFromDatabase(Long memberId, Long cursor, int limit) {
+        List<Long> memberIds = new ArrayList<>(followGraphIndex.getFollowingIds(memberId));
+        memberIds.add(memberId);
+        return postQueryRepository.findIdsByMemberIds(memberIds, cursor, limit);
+    }
+
+    // 팔로워 수가 임계치를 넘으면 셀럽으로 등록 (한 번 등록되면 유지)
+    private boolean isCelebrity(Long authorId) {
+        if (feedTimelineRepository.isCelebrity(authorId)) {
+            return true;
+        }
+        if (memberStatsService.getStats(authorId).getFollowerCount() > celebrityThreshold) {
+            feedTimelineRepository.addCelebrity(authorId);
+            return true;
+        }
+        return false;
+    }
+}
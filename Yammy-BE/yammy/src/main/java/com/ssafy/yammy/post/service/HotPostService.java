@@ -0,0 +1,109 @@
+package com.ssafy.yammy.post.service;
+
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import com.ssafy.yammy.post.repository.HotPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인기 게시글 랭킹 (시간 감쇠 점수)
+ * - 작성/좋아요/댓글 이벤트마다 해당 게시글 점수만 조금씩 갱신 (post 테이블 전체 스캔 없음)
+ * - 좋아요 취소는 그 좋아요가 더했던 점수(좋아요 시각 기준)를 그대로 빼서, 좋아요/취소를 반복해도 점수가 쌓이지 않음
+ * - 댓글 삭제는 감점하지 않음 (시간 감쇠로 자연히 밀려남)
+ * - 트랜잭션 안에서 호출하면 커밋된 뒤에 반영 (롤백된 이벤트는 반영하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotPostService {
+
+    private final HotPostRepository hotPostRepository;
+
+    private static final double POST_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+
+    // 점수가 e배 줄어드는 데 걸리는 시간 (기본 12시간)
+    @Value("${feed.hot.decay-seconds:43200}")
+    private long decaySeconds;
+
+    // 랭킹에 유지할 최대 게시글 수
+    @Value("${feed.hot.max-size:1000}")
+    private int maxSize;
+
+    public void onPostCreated(Long postId) {
+        TransactionCallbacks.runAfterCommit(() -> addEvent(postId, POST_WEIGHT, LocalDateTime.now()));
+    }
+
+    // likedAt: 좋아요 행의 created_at (취소할 때 같은 시각으로 점수를 빼기 위함)
+    public void onLiked(Long postId, LocalDateTime likedAt) {
+        TransactionCallbacks.runAfterCommit(() -> addEvent(postId, LIKE_WEIGHT, likedAt));
+    }
+
+    public void onUnliked(Long postId, LocalDateTime likedAt) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            try {
+                hotPostRepository.subtractScore(postId, logScore(LIKE_WEIGHT, likedAt));
+            } catch (Exception e) {
+                log.warn("[HotPostService] 랭킹 감점 실패: postId={}, error={}", postId, e.getMessage());
+            }
+        });
+    }
+
+    public void onCommented(Long postId) {
+        TransactionCallbacks.runAfterCommit(() -> addEvent(postId, COMMENT_WEIGHT, LocalDateTime.now()));
+    }
+
+    public void onPostDeleted(Long postId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            try {
+                hotPostRepository.remove(postId);
+            } catch (Exception e) {
+                log.warn("[HotPostService] 랭킹 제거 실패: postId={}, error={}", postId, e.getMessage());
+            }
+        });
+    }
+
+    // 탈퇴 회원 게시글 일괄 제거
+    public void onPostsDeleted(Collection<Long> postIds) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            try {
+                hotPostRepository.removeAll(postIds);
+            } catch (Exception e) {
+                log.warn("[HotPostService] 랭킹 일괄 제거 실패: posts={}, error={}", postIds.size(), e.getMessage());
+            }
+        });
+    }
+
+    // 인기 게시글 조회 (점수 높은 순, (점수, 게시글 ID) 커서 다음부터)
+    public List<HotPostRepository.RankedPost> getHotPosts(Double cursorScore, Long cursorPostId, int limit) {
+        try {
+            return hotPostRepository.findPostsAfter(cursorScore, cursorPostId, limit);
+        } catch (Exception e) {
+            log.warn("[HotPostService] 랭킹 조회 실패: error={}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private void addEvent(Long postId, double weight, LocalDateTime occurredAt) {
+        try {
+            hotPostRepository.addScore(postId, logScore(weight, occurredAt), maxSize);
+        } catch (Exception e) {
+            log.warn("[HotPostService] 랭킹 갱신 실패: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    // ln(weight × e^(t / tau)) = t / tau + ln(weight)
+    private double logScore(double weight, LocalDateTime occurredAt) {
+        double epochSeconds = occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0;
+        return epochSeconds / decaySeconds + Math.log(weight);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ssafy.yammy.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.yammy.global.util.TransactionCallbacks;
+import com.ssafy.yammy.post.dto.AuthorCard;
+import com.ssafy.yammy.post.dto.PostCard;
+import com.ssafy.yammy.post.repository.PostCardCacheRepository;
+import com.ssafy.yammy.post.repository.PostQueryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 카드 2단 캐시 (로컬 Caffeine + Redis)
+ * - 조회자와 무관한 부분(캡션, 이미지, 작성자 정보)만 캐싱
+ * - 좋아요/댓글 수는 피드 조회 결과(PostSummary) 값을 사용하고, isLiked/isFollowing은 매번 DB 조회
+ * - 수정/삭제 시 커밋 후 Redis 삭제, Pub/Sub으로 모든 서버의 로컬 캐시 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostCardCacheService implements MessageListener {
+
+    private final PostCardCacheRepository postCardCacheRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String POST_MESSAGE_PREFIX = "post:";
+    private static final String AUTHOR_MESSAGE_PREFIX = "member:";
+    private static final int MAX_IMAGES = 3;
+
+    private final Cache<Long, PostCard> postCardNearCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    private final Cache<Long, AuthorCard> authorCardNearCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(PostCardCacheRepository.INVALIDATION_CHANNEL));
+    }
+
+    // 게시글 카드 조회 (로컬 → Redis → DB)
+    public Map<Long, PostCard> getPostCards(Collection<Long> postIds) {
+        return getAll(new HashSet<>(postIds), postCardNearCache,
+                postCardCacheRepository::findPostCards,
+                ids -> postQueryRepository.findPostCards(ids, MAX_IMAGES),
+                postCardCacheRepository::savePostCards);
+    }
+
+    public PostCard getPostCard(Long postId) {
+        return getPostCards(List.of(postId)).get(postId);
+    }
+
+    // 작성자 카드 조회 (로컬 → Redis → DB)
+    public Map<Long, AuthorCard> getAuthorCards(Collection<Long> memberIds) {
+        return getAll(new HashSet<>(memberIds), authorCardNearCache,
+                postCardCacheRepository::findAuthorCards,
+                ids -> postQueryRepository.findAuthorCards(ids).stream()
+                        .collect(Collectors.toMap(AuthorCard::getMemberId, c -> c)),
+                postCardCacheRepository::saveAuthorCards);
+    }
+
+    public AuthorCard getAuthorCard(Long memberId) {
+        return getAuthorCards(List.of(memberId)).get(memberId);
+    }
+
+    // 게시글 수정/삭제 시 무효화 (커밋 후, 커밋 전 값이 다시 캐싱되지 않도록)
+    public void evictPost(Long postId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            postCardNearCache.invalidate(postId);
+            try {
+                postCardCacheRepository.deletePostCard(postId);
+                postCardCacheRepository.publishInvalidation(POST_MESSAGE_PREFIX + postId);
+            } catch (Exception e) {
+                log.warn("[PostCardCacheService] 게시글 카드 무효화 실패: postId={}, error={}", postId, e.getMessage());
+            }
+        });
+    }
+
+    // 회원 프로필 수정/탈퇴 시 무효화 (커밋 후)
+    public void evictAuthor(Long memberId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            authorCardNearCache.invalidate(memberId);
+            try {
+                postCardCacheRepository.deleteAuthorCard(memberId);
+                postCardCacheRepository.publishInvalidation(AUTHOR_MESSAGE_PREFIX + memberId);
+            } catch (Exception e) {
+                log.warn("[PostCardCacheService] 작성자 카드 무효화 실패: memberId={}, error={}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지 처리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(POST_MESSAGE_PREFIX)) {
+                postCardNearCache.invalidate(Long.valueOf(body.substring(POST_MESSAGE_PREFIX.length())));
+            } else if (body.startsWith(AUTHOR_MESSAGE_PREFIX)) {
+                authorCardNearCache.invalidate(Long.valueOf(body.substring(AUTHOR_MESSAGE_PREFIX.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[PostCardCacheService] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    private <T> Map<Long, T> getAll(Set<Long> ids,
+                                    Cache<Long, T> nearCache,
+                                    Function<Collection<Long>, Map<Long, T>> remoteLoader,
+                                    Function<Collection<Long>, Map<Long, T>> dbLoader,
+                                    Consumer<Collection<T>> remoteWriter) {
+        Map<Long, T> result = new HashMap<>(nearCache.getAllPresent(ids));
+
+        Set<Long> misses = new HashSet<>(ids);
+        misses.removeAll(result.keySet());
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // 2차 캐시 (Redis)
+        try {
+            Map<Long, T> remote = remoteLoader.apply(misses);
+            nearCache.putAll(remote);
+            result.putAll(remote);
+            misses.removeAll(remote.keySet());
+        } catch (Exception e) {
+            log.warn("[PostCardCacheService] Redis 조회 실패, DB 조회로 대체: {}", e.getMessage());
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // DB 조회 후 양쪽 캐시에 적재
+        Map<Long, T> loaded = dbLoader.apply(misses);
+        nearCache.putAll(loaded);
+        result.putAll(loaded);
+        try {
+            remoteWriter.accept(loaded.values());
+        } catch (Exception e) {
+            log.warn("[PostCardCacheService] Redis 저장 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+}
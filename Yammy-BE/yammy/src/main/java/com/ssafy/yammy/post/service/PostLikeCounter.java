@@ -0,0 +1,52 @@
+package com.ssafy.yammy.post.service;
+
+import com.ssafy.yammy.global.util.WriteBehindCounter;
+import com.ssafy.yammy.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요 수 Write-Behind 카운터
+ * - 좋아요 토글마다 post 행을 잠그지 않고 증감분만 누적했다가 주기적으로 post.like_count 에 반영
+ * - 누적/조회/반영 방식은 WriteBehindCounter 참고
+ */
+@Component
+public class PostLikeCounter {
+
+    private final WriteBehindCounter counter;
+
+    public PostLikeCounter(PostRepository postRepository) {
+        this.counter = new WriteBehindCounter("PostLikeCounter", 50_000, Duration.ofSeconds(10),
+                postRepository::findLikeCountsByIdIn, postRepository::addLikeCounts);
+    }
+
+    // 증감분 누적 (트랜잭션 중이면 커밋 후에 반영)
+    public void add(Long postId, long delta) {
+        counter.add(postId, delta);
+    }
+
+    // 여러 게시글의 좋아요 수 조회 (DB 값 + 미반영 증감분, 없는 게시글은 제외)
+    public Map<Long, Integer> getLikeCounts(Collection<Long> postIds) {
+        return counter.getCounts(postIds);
+    }
+
+    public Integer getLikeCount(Long postId) {
+        return counter.getCount(postId);
+    }
+
+    // 누적된 증감분을 DB에 반영
+    @Scheduled(fixedDelayString = "${post.like.flush-interval-ms:3000}")
+    public void flush() {
+        counter.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
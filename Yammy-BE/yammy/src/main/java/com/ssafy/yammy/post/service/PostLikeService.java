@@ -1,7 +1,5 @@
 package com.ssafy.yammy.post.service;
 
-import com.ssafy.yammy.post.entity.Post;
-import com.ssafy.yammy.post.entity.PostLike;
 import com.ssafy.yammy.post.repository.PostLikeRepository;
 import com.ssafy.yammy.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -18,32 +19,32 @@ public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
+    private final PostLikeCounter postLikeCounter;
+    private final HotPostService hotPostService;
 
     // 좋아요 토글 (좋아요 <-> 좋아요 취소)
+    // post 행은 잠그지 않고, 좋아요 수는 PostLikeCounter가 모아서 반영
     @Transactional
     public boolean toggleLike(Long postId, Long memberId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
-
-        boolean isLiked = postLikeRepository.existsByPostIdAndMemberId(postId, memberId);
+        if (!postRepository.existsById(postId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        }
 
-        if (isLiked) {
-            // 좋아요 취소
-            postLikeRepository.deleteByPostIdAndMemberId(postId, memberId);
-            post.decrementLikeCount();
-            postRepository.save(post);
+        // 좋아요 취소 (삭제된 행이 있으면 취소된 것, 좋아요 때 더한 인기 점수도 빼기)
+        Optional<LocalDateTime> likedAt = postLikeRepository.findCreatedAt(postId, memberId);
+        if (likedAt.isPresent() && postLikeRepository.deleteLike(postId, memberId) > 0) {
+            postLikeCounter.add(postId, -1);
+            hotPostService.onUnliked(postId, likedAt.get());
             return false;
-        } else {
-            // 좋아요
-            PostLike postLike = PostLike.builder()
-                    .postId(postId)
-                    .memberId(memberId)
-                    .build();
-            postLikeRepository.save(postLike);
-            post.incrementLikeCount();
-            postRepository.save(post);
-            return true;
         }
+
+        // 좋아요 (동시 요청으로 이미 저장된 경우 좋아요 상태로 보고, 실제로 저장했을 때만 좋아요 수/인기 점수 반영)
+        LocalDateTime now = LocalDateTime.now();
+        if (postLikeRepository.insertLike(postId, memberId, now) > 0) {
+            postLikeCounter.add(postId, 1);
+            hotPostService.onLiked(postId, now);
+        }
+        return true;
     }
 
     // 좋아요 여부 확인
@@ -2,22 +2,28 @@ package com.ssafy.yammy.post.service;
 
 import com.ssafy.yammy.auth.entity.Member;
 import com.ssafy.yammy.auth.repository.MemberRepository;
-import com.ssafy.yammy.follow.repository.FollowRepository;
+import com.ssafy.yammy.auth.service.MemberStatsService;
+import com.ssafy.yammy.comment.repository.CommentLikeRepository;
+import com.ssafy.yammy.comment.repository.CommentRepository;
+import com.ssafy.yammy.comment.service.CommentThreadCache;
+import com.ssafy.yammy.follow.service.FollowGraphIndex;
 import com.ssafy.yammy.global.util.BadWordsFilterUtil;
 import com.ssafy.yammy.post.dto.*;
 import com.ssafy.yammy.post.entity.Post;
 import com.ssafy.yammy.post.entity.PostImage;
+import com.ssafy.yammy.post.repository.HotPostRepository;
 import com.ssafy.yammy.post.repository.PostImageRepository;
 import com.ssafy.yammy.post.repository.PostLikeRepository;
+import com.ssafy.yammy.post.repository.PostQueryRepository;
 import com.ssafy.yammy.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -27,11 +33,21 @@ import java.util.stream.Collectors;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
     private final PostImageRepository postImageRepository;
     private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
     private final MemberRepository memberRepository;
-    private final FollowRepository followRepository;
     private final BadWordsFilterUtil badWordsFilterUtil;
+    private final FeedTimelineService feedTimelineService;
+    private final PostCardCacheService postCardCacheService;
+    private final PostLikeCounter postLikeCounter;
+    private final HotPostService hotPostService;
+    private final FeedHeadCache feedHeadCache;
+    private final CommentThreadCache commentThreadCache;
+    private final MemberStatsService memberStatsService;
+    private final FollowGraphIndex followGraphIndex;
 
     private static final int DEFAULT_PAGE_SIZE = 20;
 
@@ -56,23 +72,29 @@ public class PostService {
         // 게시글 저장
         Post post = Post.builder()
                 .memberId(memberId)
+                .team(member.getTeam())
                 .caption(cleanCaption)
                 .build();
         Post savedPost = postRepository.save(post);
 
-        // 이미지 저장
-        List<PostImage> postImages = new ArrayList<>();
-        for (int i = 0; i < request.getImageUrls().size(); i++) {
-            PostImage postImage = PostImage.builder()
-                    .postId(savedPost.getId())
-                    .imageUrl(request.getImageUrls().get(i))
-                    .imageOrder(i + 1)
-                    .build();
-            postImages.add(postImageRepository.save(postImage));
-        }
+        // 이미지 저장 (INSERT 한 번)
+        List<PostImage> postImages = buildPostImages(savedPost.getId(), request.getImageUrls());
+        postImageRepository.insertAll(postImages);
+
+        // 작성자 게시글 수 증가
+        memberStatsService.onPostCountChanged(memberId, 1);
+
+        // 팔로워 타임라인에 배포 (커밋 후)
+        feedTimelineService.fanOut(memberId, savedPost.getId());
+
+        // 인기 게시글 랭킹 반영
+        hotPostService.onPostCreated(savedPost.getId());
+
+        // 전체/팀 피드 첫 페이지 캐시 비우기 (커밋 후)
+        feedHeadCache.evict(savedPost.getTeam());
 
         // Response 생성 (자기 글이므로 isFollowing은 null)
-        return buildPostResponse(savedPost, member, postImages, false, null);
+        return buildPostResponse(PostSummary.from(savedPost), PostCard.of(savedPost, postImages), AuthorCard.from(member), false, null);
     }
 
     // 게시글 상세 조회
@@ -81,27 +103,30 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
 
-        Member member = memberRepository.findById(post.getMemberId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "작성자를 찾을 수 없습니다."));
+        AuthorCard author = postCardCacheService.getAuthorCard(post.getMemberId());
+        if (author == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "작성자를 찾을 수 없습니다.");
+        }
 
-        List<PostImage> postImages = postImageRepository.findByPostIdOrderByImageOrder(postId);
+        PostCard card = postCardCacheService.getPostCard(postId);
 
         boolean isLiked = memberId != null && postLikeRepository.existsByPostIdAndMemberId(postId, memberId);
 
         // 팔로우 상태 확인 (본인 글이 아니고, 로그인한 경우에만)
         Boolean isFollowing = null;
         if (memberId != null && !post.getMemberId().equals(memberId)) {
-            isFollowing = followRepository.existsByFollowerIdAndFollowingId(memberId, post.getMemberId());
+            isFollowing = followGraphIndex.isFollowing(memberId, post.getMemberId());
         }
 
-        return buildPostResponse(post, member, postImages, isLiked, isFollowing);
+        return buildPostResponse(PostSummary.from(post), card, author, isLiked, isFollowing);
     }
 
-    // 전체 피드 조회 (커서 기반 페이징)
+    // 전체 피드 조회 (커서 기반 페이징, team이 있으면 팀별 피드)
     @Transactional(readOnly = true)
-    public PostListResponse getAllPosts(Long cursor, Long memberId) {
-        PageRequest pageRequest = PageRequest.of(0, DEFAULT_PAGE_SIZE + 1);
-        List<Post> posts = postRepository.findAllWithCursor(cursor, pageRequest);
+    public PostListResponse getAllPosts(Long cursor, String team, Long memberId) {
+        List<PostSummary> posts = cursor == null
+                ? feedHeadCache.get(team, () -> postQueryRepository.findAllSummaries(team, null, DEFAULT_PAGE_SIZE + 1))
+                : postQueryRepository.findAllSummaries(team, cursor, DEFAULT_PAGE_SIZE + 1);
 
         return buildPostListResponse(posts, memberId);
     }
@@ -109,26 +134,43 @@ public class PostService {
     // 내 피드 조회 (나 + 팔로우한 사람들)
     @Transactional(readOnly = true)
     public PostListResponse getMyFeed(Long cursor, Long memberId) {
-        // 내가 팔로우한 사람들의 ID 목록 가져오기
-        List<Long> followingIds = followRepository.findByFollowerId(memberId, PageRequest.of(0, Integer.MAX_VALUE))
-                .stream()
-                .map(follow -> follow.getFollowingId())
-                .collect(Collectors.toList());
-
-        // 내 ID도 포함
-        followingIds.add(memberId);
+        // 타임라인에서 게시글 ID만 페이지만큼 조회
+        List<Long> postIds = feedTimelineService.getFeedPostIds(memberId, cursor, DEFAULT_PAGE_SIZE + 1);
 
-        PageRequest pageRequest = PageRequest.of(0, DEFAULT_PAGE_SIZE + 1);
-        List<Post> posts = postRepository.findByMemberIdsWithCursor(followingIds, cursor, pageRequest);
+        // ID 순서대로 게시글 조회 (삭제된 게시글은 제외)
+        List<PostSummary> posts = postQueryRepository.findSummariesByIds(postIds);
 
         return buildPostListResponse(posts, memberId);
     }
 
+    // 인기 피드 조회 (시간 감쇠 점수순)
+    // cursor 는 다른 피드와 같이 마지막 게시글 ID, cursorScore 는 그 게시글의 랭킹 점수 (둘 다 이전 응답 값 그대로)
+    @Transactional(readOnly = true)
+    public PostListResponse getHotPosts(Long cursor, Double cursorScore, Long memberId) {
+        List<HotPostRepository.RankedPost> ranked = hotPostService.getHotPosts(cursorScore, cursor, DEFAULT_PAGE_SIZE + 1);
+
+        boolean hasNext = ranked.size() > DEFAULT_PAGE_SIZE;
+        if (hasNext) {
+            ranked = ranked.subList(0, DEFAULT_PAGE_SIZE);
+        }
+
+        List<Long> postIds = ranked.stream().map(HotPostRepository.RankedPost::postId).toList();
+        List<PostSummary> posts = postQueryRepository.findSummariesByIds(postIds);
+
+        // 삭제돼 응답에서 빠진 게시글이 있어도 커서는 랭킹에서 읽은 마지막 항목 기준
+        HotPostRepository.RankedPost last = hasNext ? ranked.get(ranked.size() - 1) : null;
+        return PostListResponse.builder()
+                .posts(buildPostResponses(posts, memberId))
+                .nextCursor(last != null ? last.postId() : null)
+                .nextCursorScore(last != null ? last.score() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     // 특정 사용자의 게시글 조회 (프로필 페이지용)
     @Transactional(readOnly = true)
     public PostListResponse getUserPosts(Long userId, Long cursor, Long currentMemberId) {
-        PageRequest pageRequest = PageRequest.of(0, DEFAULT_PAGE_SIZE + 1);
-        List<Post> posts = postRepository.findByMemberIdWithCursor(userId, cursor, pageRequest);
+        List<PostSummary> posts = postQueryRepository.findSummariesByMemberId(userId, cursor, DEFAULT_PAGE_SIZE + 1);
 
         return buildPostListResponse(posts, currentMemberId);
     }
@@ -152,21 +194,14 @@ public class PostService {
 
         // === 2. 이미지 교체 ===
         if (request.getImageUrls() != null && !request.getImageUrls().isEmpty()) {
-            // 기존 이미지 전부 삭제
+            // 기존 이미지 전부 삭제 후 새 이미지 저장 (DELETE 한 번 + INSERT 한 번)
             postImageRepository.deleteByPostId(postId);
-
-            // 새 이미지 저장
-            int order = 1;
-            for (String url : request.getImageUrls()) {
-                PostImage newImg = PostImage.builder()
-                        .postId(postId)
-                        .imageUrl(url)
-                        .imageOrder(order++)
-                        .build();
-                postImageRepository.save(newImg);
-            }
+            postImageRepository.insertAll(buildPostImages(postId, request.getImageUrls()));
         }
 
+        // 캐시된 게시글 카드 무효화
+        postCardCacheService.evictPost(postId);
+
         // === 3. 결과 반환 ===
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "작성자를 찾을 수 없습니다."));
@@ -175,7 +210,7 @@ public class PostService {
         boolean isLiked = postLikeRepository.existsByPostIdAndMemberId(postId, memberId);
 
         // 자기 글 수정이므로 isFollowing은 null
-        return buildPostResponse(post, member, postImages, isLiked, null);
+        return buildPostResponse(PostSummary.from(post), PostCard.of(post, postImages), AuthorCard.from(member), isLiked, null);
     }
 
     // 게시글 삭제
@@ -189,29 +224,65 @@ public class PostService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "게시글을 삭제할 권한이 없습니다.");
         }
 
-        // 이미지 먼저 삭제
+        // 연관 데이터 일괄 삭제 (엔티티 로딩 없이 DELETE 문으로 처리)
+        commentLikeRepository.deleteByPostId(postId);
+        commentRepository.deleteByPostId(postId);
+        postLikeRepository.deleteByPostId(postId);
         postImageRepository.deleteByPostId(postId);
 
         // 게시글 삭제
         postRepository.delete(post);
+        memberStatsService.onPostCountChanged(memberId, -1);
+
+        // 타임라인에서 제거 (커밋 후)
+        feedTimelineService.remove(memberId, postId);
+
+        // 캐시된 게시글 카드 무효화
+        postCardCacheService.evictPost(postId);
+
+        // 인기 게시글 랭킹에서 제거
+        hotPostService.onPostDeleted(postId);
+
+        // 전체/팀 피드 첫 페이지 캐시 비우기 (커밋 후)
+        feedHeadCache.evict(post.getTeam());
+
+        // 댓글 첫 페이지 캐시 비우기
+        commentThreadCache.evict(postId);
+    }
+
+    // 이미지 엔티티 목록 생성 (순서는 1부터)
+    private List<PostImage> buildPostImages(Long postId, List<String> imageUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostImage> postImages = new ArrayList<>();
+        for (int i = 0; i < imageUrls.size(); i++) {
+            postImages.add(PostImage.builder()
+                    .postId(postId)
+                    .imageUrl(imageUrls.get(i))
+                    .imageOrder(i + 1)
+                    .createdAt(now)
+                    .build());
+        }
+        return postImages;
     }
 
     // PostResponse 빌드 헬퍼 메서드
-    private PostResponse buildPostResponse(Post post, Member member, List<PostImage> postImages, boolean isLiked, Boolean isFollowing) {
-        List<String> imageUrls = postImages.stream()
-                .map(PostImage::getImageUrl)
-                .collect(Collectors.toList());
+    // 카드(캡션/이미지)와 작성자 정보는 캐시에서, 좋아요 수는 PostLikeCounter(DB 값 + 미반영 증감분)에서 가져옴
+    private PostResponse buildPostResponse(PostSummary post, PostCard card, AuthorCard author, boolean isLiked, Boolean isFollowing) {
+        return buildPostResponse(post, card, author, postLikeCounter.getLikeCount(post.getId()), isLiked, isFollowing);
+    }
 
+    private PostResponse buildPostResponse(PostSummary post, PostCard card, AuthorCard author, Integer likeCount,
+                                           boolean isLiked, Boolean isFollowing) {
         return PostResponse.builder()
                 .id(post.getId())
-                .memberId(member.getMemberId())
-                .nickname(member.getNickname())
-                .profileImage(member.getProfileImage())
-                .team(member.getTeam())
-                .bio(member.getBio())
-                .caption(post.getCaption())
-                .imageUrls(imageUrls)
-                .likeCount(post.getLikeCount())
+                .memberId(author.getMemberId())
+                .nickname(author.getNickname())
+                .profileImage(author.getProfileImage())
+                .team(author.getTeam())
+                .bio(author.getBio())
+                .caption(card.getCaption())
+                .imageUrls(card.getImageUrls())
+                .likeCount(likeCount != null ? likeCount : post.getLikeCount())
                 .commentCount(post.getCommentCount())
                 .isLiked(isLiked)
                 .isFollowing(isFollowing)
@@ -221,33 +292,45 @@ public class PostService {
     }
 
     // PostListResponse 빌드 헬퍼 메서드
-    private PostListResponse buildPostListResponse(List<Post> posts, Long memberId) {
+    private PostListResponse buildPostListResponse(List<PostSummary> posts, Long memberId) {
         boolean hasNext = posts.size() > DEFAULT_PAGE_SIZE;
         if (hasNext) {
             posts = posts.subList(0, DEFAULT_PAGE_SIZE);
         }
 
+        Long nextCursor = hasNext && !posts.isEmpty() ? posts.get(posts.size() - 1).getId() : null;
+
+        return PostListResponse.builder()
+                .posts(buildPostResponses(posts, memberId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // PostResponse 리스트 배치 생성 (카드/작성자/좋아요/팔로우 정보를 한 번에 조회)
+    private List<PostResponse> buildPostResponses(List<PostSummary> posts, Long memberId) {
         // 게시글 ID 목록 추출
         List<Long> postIds = posts.stream()
-                .map(Post::getId)
+                .map(PostSummary::getId)
                 .collect(Collectors.toList());
 
-        // 이미지 배치 조회
-        Map<Long, List<PostImage>> postImagesMap = postImageRepository.findByPostIdIn(postIds).stream()
-                .collect(Collectors.groupingBy(PostImage::getPostId));
+        // 게시글 카드 조회 (캐시 우선)
+        Map<Long, PostCard> postCardMap = postCardCacheService.getPostCards(postIds);
+
+        // 좋아요 수 배치 조회 (캐시 우선)
+        Map<Long, Integer> likeCounts = postLikeCounter.getLikeCounts(postIds);
 
         // 좋아요 여부 배치 조회
         Set<Long> likedPostIds = memberId != null
                 ? new HashSet<>(postLikeRepository.findLikedPostIdsByMemberIdAndPostIds(postIds, memberId))
                 : new HashSet<>();
 
-        // 작성자 정보 배치 조회
+        // 작성자 정보 조회 (캐시 우선)
         List<Long> memberIds = posts.stream()
-                .map(Post::getMemberId)
+                .map(PostSummary::getMemberId)
                 .distinct()
                 .collect(Collectors.toList());
-        Map<Long, Member> memberMap = memberRepository.findAllById(memberIds).stream()
-                .collect(Collectors.toMap(Member::getMemberId, m -> m));
+        Map<Long, AuthorCard> authorMap = postCardCacheService.getAuthorCards(memberIds);
 
         // 팔로우 여부 배치 조회
         Set<Long> followingMemberIds = new HashSet<>();
@@ -258,18 +341,16 @@ public class PostService {
                     .collect(Collectors.toList());
 
             if (!otherMemberIds.isEmpty()) {
-                followingMemberIds = new HashSet<>(
-                    followRepository.findFollowingIdsByFollowerIdAndFollowingIds(memberId, otherMemberIds)
-                );
+                followingMemberIds = followGraphIndex.filterFollowing(memberId, otherMemberIds);
             }
         }
 
         // PostResponse 리스트 생성
         final Set<Long> finalFollowingMemberIds = followingMemberIds;
-        List<PostResponse> postResponses = posts.stream()
+        return posts.stream()
                 .map(post -> {
-                    Member member = memberMap.get(post.getMemberId());
-                    List<PostImage> postImages = postImagesMap.getOrDefault(post.getId(), Collections.emptyList());
+                    AuthorCard author = authorMap.get(post.getMemberId());
+                    PostCard card = postCardMap.get(post.getId());
                     boolean isLiked = likedPostIds.contains(post.getId());
 
                     // 팔로우 상태 결정: 본인 글이면 null, 아니면 팔로우 여부 확인
@@ -278,16 +359,8 @@ public class PostService {
                         isFollowing = finalFollowingMemberIds.contains(post.getMemberId());
                     }
 
-                    return buildPostResponse(post, member, postImages, isLiked, isFollowing);
+                    return buildPostResponse(post, card, author, likeCounts.get(post.getId()), isLiked, isFollowing);
                 })
                 .collect(Collectors.toList());
-
-        Long nextCursor = hasNext && !posts.isEmpty() ? posts.get(posts.size() - 1).getId() : null;
-
-        return PostListResponse.builder()
-                .posts(postResponses)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .build();
     }
 }
@@ -44,13 +44,7 @@ public class PredictController {
             throw new IllegalStateException("인증 정보가 없습니다.");
         }
 
-        Member member = userDetails.getMember();
-        if (member == null) {
-            log.error("Member not found in userDetails");
-            throw new IllegalStateException("사용자 정보를 찾을 수 없습니다.");
-        }
-
-        PredictedResponse response = predictService.createBetting(member, request);
+        PredictedResponse response = predictService.createBetting(userDetails.getMemberId(), request);
         return ResponseEntity.ok(response);
     }
 
@@ -63,8 +57,7 @@ public class PredictController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PageableDefault(size = 10) Pageable pageable) {
 
-        Member member = userDetails.getMember();
-        Page<PredictedResponse> predictions = predictService.getUserPredictions(member, pageable);
+        Page<PredictedResponse> predictions = predictService.getUserPredictions(userDetails.getMemberId(), pageable);
         return ResponseEntity.ok(predictions);
     }
 
@@ -84,8 +77,7 @@ public class PredictController {
     @Operation(summary = "사용자 팬심 조회", description = "로그인한 사용자의 팬심(경험치) 잔액을 조회합니다.")
     @GetMapping("/points")
     public ResponseEntity<UserPointsResponse> getUserPoints(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        Member member = userDetails.getMember();
-        UserPointsResponse response = predictService.getUserPoints(member);
+        UserPointsResponse response = predictService.getUserPoints(userDetails.getMemberId());
         return ResponseEntity.ok(response);
     }
 
@@ -113,10 +105,8 @@ public class PredictController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody List<SettlementRequest> requests) {
 
-        Member member = userDetails.getMember();
-
-        if (!member.getAuthority().equals(Member.Authority.ADMIN)) {
-            log.error("Unauthorized settlement attempt - User: {}, Authority: {}", member.getNickname(), member.getAuthority());
+        if (!Member.Authority.ADMIN.equals(userDetails.getAuthority())) {
+            log.error("Unauthorized settlement attempt - User: {}, Authority: {}", userDetails.getUsername(), userDetails.getAuthority());
             throw new IllegalStateException("관리자 권한이 필요합니다.");
         }
 
@@ -35,12 +35,13 @@ public class PredictService {
     // 배팅 생성
     // ===========================================
     @Transactional
-    public PredictedResponse createBetting(Member member, PredictedCreateRequest request) {
+    public PredictedResponse createBetting(Long memberId, PredictedCreateRequest request) {
 
         if (request.getBatAmount() < 100L) {
             throw new IllegalArgumentException("최소 배팅 금액은 100팬심입니다.");
         }
 
+        Member member = getMember(memberId);
         PredictedMatches match = predictedMatchesRepository.findById(request.getPredictedMatchId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 경기입니다."));
 
@@ -83,8 +84,8 @@ public class PredictService {
     // ===========================================
     // 사용자 배팅/경기 조회 헬퍼
     // ===========================================
-    public Page<PredictedResponse> getUserPredictions(Member member, Pageable pageable) {
-        return predictedRepository.findByMemberOrderByIdDesc(member, pageable)
+    public Page<PredictedResponse> getUserPredictions(Long memberId, Pageable pageable) {
+        return predictedRepository.findByMemberOrderByIdDesc(memberRepository.getReferenceById(memberId), pageable)
                 .map(PredictedResponse::from);
     }
 
@@ -103,9 +104,8 @@ public class PredictService {
         );
     }
 
-    public UserPointsResponse getUserPoints(Member member) {
-        Member latest = memberRepository.findById(member.getMemberId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public UserPointsResponse getUserPoints(Long memberId) {
+        Member latest = getMember(memberId);
 
         return UserPointsResponse.builder()
                 .memberId(latest.getMemberId())
@@ -272,4 +272,9 @@ public class PredictService {
                 .message("정산 완료")
                 .build();
     }
+
+    private Member getMember(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
 }
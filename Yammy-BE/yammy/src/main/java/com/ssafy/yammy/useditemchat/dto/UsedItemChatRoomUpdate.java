@@ -0,0 +1,59 @@
+package com.ssafy.yammy.useditemchat.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방별 새 메시지 집계 (Kafka 배치 소비용)
+ * - 발신자별 메시지 수와 마지막 메시지를 모아 채팅방당 한 번에 반영
+ * - 이벤트 ID 별 발신자를 함께 보관해서, 이미 반영한 메시지는 메시지 수에서 뺄 수 있음
+ */
+@Getter
+public class UsedItemChatRoomUpdate {
+
+    private final String roomKey;
+    private final Map<Long, Integer> messageCounts = new HashMap<>();  // 발신자 ID → 메시지 수
+    private final Map<String, Long> senderByEventId = new LinkedHashMap<>();  // 이벤트 ID → 발신자 ID
+    private String lastMessageContent;
+    private LocalDateTime lastMessageAt;
+
+    public UsedItemChatRoomUpdate(String roomKey) {
+        this.roomKey = roomKey;
+    }
+
+    // 메시지 한 건 추가 (재시도 메시지가 섞여 순서가 바뀌어도 발신 시각이 가장 늦은 메시지를 마지막 메시지로 유지)
+    // 같은 이벤트가 한 배치에 두 번 들어오면 (재처리 메시지와 원본 등) 한 번만 셈
+    public void addMessage(String eventId, Long senderId, String content, LocalDateTime createdAt) {
+        if (eventId == null || senderByEventId.putIfAbsent(eventId, senderId) == null) {
+            messageCounts.merge(senderId, 1, Integer::sum);
+        }
+        if (lastMessageAt == null || !createdAt.isBefore(lastMessageAt)) {
+            this.lastMessageContent = content;
+            this.lastMessageAt = createdAt;
+        }
+    }
+
+    // 이미 반영한 이벤트는 메시지 수에서 제외 (마지막 메시지는 시각 비교로 걸러지므로 그대로 둠)
+    public void excludeProcessed(Collection<String> processedEventIds) {
+        for (String eventId : processedEventIds) {
+            Long senderId = senderByEventId.remove(eventId);
+            if (senderId != null) {
+                messageCounts.computeIfPresent(senderId, (id, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+
+    public Set<String> getEventIds() {
+        return senderByEventId.keySet();
+    }
+
+    public int getMessageCount(Long senderId) {
+        return messageCounts.getOrDefault(senderId, 0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ssafy.yammy.useditemchat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * unreadCount 에 반영한 채팅 메시지 이벤트 ID
+ * - Kafka 재전달/배치 재시도로 같은 메시지가 다시 들어와도 unreadCount 를 한 번만 증가시키기 위한 기록
+ * - 채팅방 카운트 UPDATE 와 같은 트랜잭션에서 저장하고, 보관 기간이 지나면 ChatProcessedEventCleanupScheduler 가 삭제
+ */
+@Entity
+@Table(name = "chat_processed_event", indexes = {
+        @Index(name = "idx_chat_processed_event_processed_at", columnList = "processed_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatProcessedEvent {
+
+    @Id
+    @Column(name = "event_id", length = 64)
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,10 @@
+package com.ssafy.yammy.useditemchat.repository;
+
+import java.util.Collection;
+
+// 처리한 이벤트 ID 일괄 저장 (ID 를 직접 지정하는 엔티티라 saveAll 은 건마다 SELECT 가 먼저 나가서 JDBC로 직접 처리)
+public interface ChatProcessedEventBatchRepository {
+
+    // 여러 이벤트 ID 를 INSERT 한 번으로 저장 (이미 있는 ID 가 섞여 있으면 예외 → 트랜잭션 롤백)
+    void insertAll(Collection<String> eventIds);
+}
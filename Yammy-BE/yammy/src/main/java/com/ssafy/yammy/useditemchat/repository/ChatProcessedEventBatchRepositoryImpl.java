@@ -0,0 +1,40 @@
+package com.ssafy.yammy.useditemchat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatProcessedEventBatchRepositoryImpl implements ChatProcessedEventBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_PREFIX = "INSERT INTO chat_processed_event (event_id, processed_at) VALUES ";
+    private static final String VALUES_PLACEHOLDER = "(?, ?)";
+
+    // 드라이버 옵션(rewriteBatchedStatements)과 무관하게 한 번의 왕복으로 끝나도록 multi-row INSERT 사용
+    // IGNORE 없이 INSERT 해서, 다른 컨슈머가 먼저 처리한 ID 와 겹치면 중복 키 예외로 이번 반영 전체를 되돌림
+    @Override
+    public void insertAll(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(eventIds.size(), VALUES_PLACEHOLDER));
+
+        Timestamp processedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(eventIds.size() * 2);
+        for (String eventId : eventIds) {
+            args.add(eventId);
+            args.add(processedAt);
+        }
+
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.yammy.useditemchat.repository;
+
+import com.ssafy.yammy.useditemchat.entity.ChatProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * unreadCount 에 반영한 채팅 메시지 이벤트 ID Repository
+ */
+@Repository
+public interface ChatProcessedEventRepository extends JpaRepository<ChatProcessedEvent, String>, ChatProcessedEventBatchRepository {
+
+    /**
+     * 이미 반영한 이벤트 ID 조회
+     */
+    @Query("SELECT e.eventId FROM ChatProcessedEvent e WHERE e.eventId IN :eventIds")
+    List<String> findProcessedIds(@Param("eventIds") Collection<String> eventIds);
+
+    /**
+     * 보관 기간이 지난 기록 삭제 (limit 건씩 나눠 짧은 트랜잭션으로)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM chat_processed_event WHERE processed_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -2,10 +2,13 @@ package com.ssafy.yammy.useditemchat.repository;
 
 import com.ssafy.yammy.useditemchat.entity.UsedItemChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,37 @@ public interface UsedItemChatRoomRepository extends JpaRepository<UsedItemChatRo
      */
     Optional<UsedItemChatRoom> findByRoomKey(String roomKey);
 
+    /**
+     * roomKey 목록으로 채팅방 일괄 조회
+     */
+    List<UsedItemChatRoom> findByRoomKeyIn(Collection<String> roomKeys);
+
+    /**
+     * 새 메시지 수만큼 unreadCount 를 원자적으로 증가 (엔티티 로딩 없이)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UsedItemChatRoom c SET " +
+            "c.sellerUnreadCount = c.sellerUnreadCount + :sellerUnread, " +
+            "c.buyerUnreadCount = c.buyerUnreadCount + :buyerUnread " +
+            "WHERE c.id = :id")
+    int addUnreadCounts(@Param("id") Long id,
+                        @Param("sellerUnread") int sellerUnread,
+                        @Param("buyerUnread") int buyerUnread);
+
+    /**
+     * 마지막 메시지 갱신 (저장된 마지막 메시지보다 늦은 메시지일 때만)
+     * - 재시도/재전달로 늦게 도착한 예전 메시지가 최신 메시지를 덮어쓰지 않도록 시각으로 비교
+     * @return 갱신됐으면 1, 더 최근 메시지가 이미 있으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UsedItemChatRoom c SET " +
+            "c.lastMessageContent = :lastMessageContent, " +
+            "c.lastMessageAt = :lastMessageAt " +
+            "WHERE c.id = :id AND (c.lastMessageAt IS NULL OR c.lastMessageAt <= :lastMessageAt)")
+    int updateLastMessage(@Param("id") Long id,
+                          @Param("lastMessageContent") String lastMessageContent,
+                          @Param("lastMessageAt") LocalDateTime lastMessageAt);
+
     /**
      * 특정 물품 + 구매자로 채팅방 찾기
      * (같은 물품에 같은 구매자면 기존 채팅방 재사용)
@@ -0,0 +1,45 @@
+package com.ssafy.yammy.useditemchat.scheduler;
+
+import com.ssafy.yammy.useditemchat.repository.ChatProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매일 새벽 3시 30분 처리한 채팅 이벤트 ID(chat_processed_event) 정리
+ * 보관 기간은 Kafka 토픽 보관 기간 이상으로 두어, 재전달될 수 있는 메시지의 기록은 남겨둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatProcessedEventCleanupScheduler {
+
+    private final ChatProcessedEventRepository chatProcessedEventRepository;
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    @Value("${chat.processed-event.retention-days:8}")
+    private long retentionDays;
+
+    @Scheduled(cron = "${chat.processed-event.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+
+            int total = 0;
+            int deleted;
+            do {
+                deleted = chatProcessedEventRepository.deleteProcessedBefore(before, CHUNK_SIZE);
+                total += deleted;
+            } while (deleted == CHUNK_SIZE);
+
+            log.info("Scheduler - chat processed event cleanup completed: {} rows", total);
+        } catch (Exception e) {
+            log.error("Scheduler - chat processed event cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
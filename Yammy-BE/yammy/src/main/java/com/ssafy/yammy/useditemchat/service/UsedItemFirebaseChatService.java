@@ -1,24 +1,38 @@
 package com.ssafy.yammy.useditemchat.service;
 
 import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
 import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Bucket;
 import com.google.firebase.cloud.FirestoreClient;
 import com.google.firebase.cloud.StorageClient;
+import com.ssafy.yammy.useditemchat.dto.UsedItemChatRoomUpdate;
 import com.ssafy.yammy.useditemchat.entity.UsedItemChatRoom;
+import com.ssafy.yammy.useditemchat.repository.ChatProcessedEventRepository;
 import com.ssafy.yammy.useditemchat.repository.UsedItemChatRoomRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 중고거래 채팅 Firebase 서비스
@@ -30,9 +44,12 @@ import java.util.concurrent.TimeUnit;
 public class UsedItemFirebaseChatService {
 
     private final UsedItemChatRoomRepository usedItemChatRoomRepository;
+    private final ChatProcessedEventRepository chatProcessedEventRepository;
 
-    public UsedItemFirebaseChatService(UsedItemChatRoomRepository usedItemChatRoomRepository) {
+    public UsedItemFirebaseChatService(UsedItemChatRoomRepository usedItemChatRoomRepository,
+                                       ChatProcessedEventRepository chatProcessedEventRepository) {
         this.usedItemChatRoomRepository = usedItemChatRoomRepository;
+        this.chatProcessedEventRepository = chatProcessedEventRepository;
     }
 
     /**
@@ -63,13 +80,7 @@ public class UsedItemFirebaseChatService {
         var docRef = firestore.collection("useditem-chats")
                 .document(roomKey)
                 .collection("messages")
-                .add(Map.of(
-                        "uid", memberId.toString(),
-                        "nickname", nickname,
-                        "type", "image",
-                        "imageUrl", imageUrl,
-                        "createdAt", Timestamp.now()
-                ))
+                .add(imageMessage(memberId, nickname, imageUrl, Timestamp.now()))
                 .get();
 
         log.info("✅ Used item chat message saved: {} in room: {}", docRef.getId(), roomKey);
@@ -91,13 +102,7 @@ public class UsedItemFirebaseChatService {
         var docRef = firestore.collection("useditem-chats")
                 .document(roomKey)
                 .collection("messages")
-                .add(Map.of(
-                        "uid", memberId.toString(),
-                        "nickname", nickname,
-                        "type", "text",
-                        "message", message,
-                        "createdAt", Timestamp.now()
-                ))
+                .add(textMessage(memberId, nickname, message, Timestamp.now()))
                 .get();
 
         log.info("✅ Used item chat text message saved: {} in room: {}", docRef.getId(), roomKey);
@@ -108,6 +113,44 @@ public class UsedItemFirebaseChatService {
         return docRef.getId();
     }
 
+    // WriteBatch 에 메시지 추가 (Kafka 배치 소비용, 커밋과 unreadCount 증가는 호출하는 쪽에서)
+    public void addUsedItemChatMessage(WriteBatch batch, String roomKey, String messageId, Long memberId, String nickname, String imageUrl, Timestamp createdAt) {
+        batch.set(messageDocument(roomKey, messageId), imageMessage(memberId, nickname, imageUrl, createdAt));
+    }
+
+    public void addUsedItemChatTextMessage(WriteBatch batch, String roomKey, String messageId, Long memberId, String nickname, String message, Timestamp createdAt) {
+        batch.set(messageDocument(roomKey, messageId), textMessage(memberId, nickname, message, createdAt));
+    }
+
+    // messageId 를 문서 ID 로 사용 (같은 이벤트를 다시 처리해도 같은 문서를 덮어씀, 없으면 자동 생성)
+    private DocumentReference messageDocument(String roomKey, String messageId) {
+        var messages = FirestoreClient.getFirestore()
+                .collection("useditem-chats")
+                .document(roomKey)
+                .collection("messages");
+        return messageId != null ? messages.document(messageId) : messages.document();
+    }
+
+    private Map<String, Object> imageMessage(Long memberId, String nickname, String imageUrl, Timestamp createdAt) {
+        return Map.of(
+                "uid", memberId.toString(),
+                "nickname", nickname,
+                "type", "image",
+                "imageUrl", imageUrl,
+                "createdAt", createdAt
+        );
+    }
+
+    private Map<String, Object> textMessage(Long memberId, String nickname, String message, Timestamp createdAt) {
+        return Map.of(
+                "uid", memberId.toString(),
+                "nickname", nickname,
+                "type", "text",
+                "message", message,
+                "createdAt", createdAt
+        );
+    }
+
     /**
      * 읽지 않은 메시지 수 증가
      * - 발신자가 판매자면 구매자의 unreadCount 증가
@@ -151,6 +194,88 @@ public class UsedItemFirebaseChatService {
         }
     }
 
+    /**
+     * 새 메시지 일괄 반영 (Kafka 배치 소비용)
+     * - MySQL: 채팅방당 상대방 unreadCount 증가 + 마지막 메시지 갱신 (저장된 마지막 메시지보다 늦을 때만)
+     * - Firestore: 전체 채팅방을 WriteBatch 한 번으로 반영 (조회 없이 increment)
+     *   lastMessageAt 은 MySQL 에서 마지막 메시지가 갱신된 채팅방만 덮어써서, 늦게 도착한 예전 메시지로 되돌아가지 않음
+     * - 이미 반영한 이벤트 ID(chat_processed_event)는 unreadCount 에서 빼서, 재전달/재시도돼도 한 번만 증가
+     *   새 이벤트 ID 는 같은 트랜잭션에서 저장 (다른 컨슈머와 동시에 저장하면 중복 키 예외로 롤백되고, 재시도 때 걸러짐)
+     * - Firestore 커밋은 마지막에 하고, 실패(ExecutionException 등 체크 예외 포함)하면 MySQL 변경도 롤백
+     * @return 반영된 채팅방 수
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int applyNewMessages(Collection<UsedItemChatRoomUpdate> updates) throws Exception {
+        excludeProcessedEvents(updates);
+
+        Map<String, UsedItemChatRoom> rooms = usedItemChatRoomRepository.findByRoomKeyIn(updates.stream()
+                        .map(UsedItemChatRoomUpdate::getRoomKey)
+                        .toList()).stream()
+                .collect(Collectors.toMap(UsedItemChatRoom::getRoomKey, Function.identity()));
+
+        Firestore firestore = FirestoreClient.getFirestore();
+        WriteBatch batch = firestore.batch();
+        int applied = 0;
+
+        for (UsedItemChatRoomUpdate update : updates) {
+            UsedItemChatRoom room = rooms.get(update.getRoomKey());
+            if (room == null) {
+                log.warn("채팅방을 찾을 수 없어 unreadCount 반영을 건너뜀: roomKey={}", update.getRoomKey());
+                continue;
+            }
+
+            // 판매자가 보낸 메시지는 구매자의, 구매자가 보낸 메시지는 판매자의 unreadCount 증가
+            int buyerUnread = update.getMessageCount(room.getSellerId());
+            int sellerUnread = update.getMessageCount(room.getBuyerId());
+
+            // 1. MySQL 업데이트 (unreadCount 는 새 메시지 수만큼 증가, 마지막 메시지는 더 최근일 때만 갱신)
+            if (sellerUnread > 0 || buyerUnread > 0) {
+                usedItemChatRoomRepository.addUnreadCounts(room.getId(), sellerUnread, buyerUnread);
+            }
+            boolean lastMessageUpdated = usedItemChatRoomRepository.updateLastMessage(room.getId(),
+                    update.getLastMessageContent(), update.getLastMessageAt()) > 0;
+
+            // 2. Firestore 동기화 (없는 문서에도 실패하지 않도록 merge)
+            Map<String, Object> fields = new HashMap<>();
+            if (buyerUnread > 0) {
+                fields.put("buyerUnreadCount", FieldValue.increment(buyerUnread));
+            }
+            if (sellerUnread > 0) {
+                fields.put("sellerUnreadCount", FieldValue.increment(sellerUnread));
+            }
+            if (lastMessageUpdated) {
+                fields.put("lastMessageAt", Timestamp.of(java.sql.Timestamp.valueOf(update.getLastMessageAt())));
+            }
+            if (fields.isEmpty()) {
+                continue;
+            }
+            batch.set(firestore.collection("useditem-chats").document(update.getRoomKey()), fields, SetOptions.merge());
+            applied++;
+        }
+
+        if (applied > 0) {
+            batch.commit().get();
+        }
+        return applied;
+    }
+
+    // 이미 반영한 이벤트를 메시지 수에서 빼고, 새 이벤트 ID 기록
+    private void excludeProcessedEvents(Collection<UsedItemChatRoomUpdate> updates) {
+        Set<String> eventIds = new HashSet<>();
+        updates.forEach(update -> eventIds.addAll(update.getEventIds()));
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        List<String> processedIds = chatProcessedEventRepository.findProcessedIds(eventIds);
+        if (!processedIds.isEmpty()) {
+            log.info("이미 반영한 메시지를 unreadCount 에서 제외: count={}", processedIds.size());
+            updates.forEach(update -> update.excludeProcessed(processedIds));
+            processedIds.forEach(eventIds::remove);
+        }
+        chatProcessedEventRepository.insertAll(eventIds);
+    }
+
     /**
      * Firestore에 에스크로 메시지 저장
      * @return 생성된 메시지 ID
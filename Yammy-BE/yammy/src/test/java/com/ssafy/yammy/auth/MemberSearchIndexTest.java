@@ -0,0 +1,101 @@
+package com.ssafy.yammy.auth;
+
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.auth.service.MemberSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 닉네임 검색 인덱스 테스트
+ * - 초성 검색, 입력 중인 마지막 글자(자모 단위) 검색, 영문 대소문자가 섞인 닉네임 검색 순위 확인
+ * - 적재 전 DB LIKE 대체 검색에서 와일드카드가 이스케이프되는지 확인
+ */
+class MemberSearchIndexTest {
+
+    private static final long YAMI = 1L;
+    private static final long BASEBALL_KING = 2L;
+    private static final long KIM_YAMI = 3L;
+    private static final long CALM = 4L;
+    private static final long YAMMY_KIM = 5L;
+    private static final long PERCENT = 6L;
+
+    private MemberRepository memberRepository;
+    private MemberSearchIndex memberSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        memberSearchIndex = new MemberSearchIndex(memberRepository,
+                mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    void 초성만_입력하면_초성이_이어지는_닉네임을_찾는다() {
+        loadIndex();
+
+        assertThat(memberSearchIndex.search("ㅇㅁ", 0, 20)).containsExactly(YAMI, KIM_YAMI);
+        assertThat(memberSearchIndex.search("ㄱㅇㅁ", 0, 20)).containsExactly(KIM_YAMI);
+        assertThat(memberSearchIndex.search("ㅎㅎ", 0, 20)).isEmpty();
+    }
+
+    @Test
+    void 입력_중인_마지막_글자는_자모_단위로_이어지는_닉네임까지_찾는다() {
+        loadIndex();
+
+        // 초성만 입력한 마지막 글자
+        assertThat(memberSearchIndex.search("야ㅁ", 0, 20)).containsExactly(YAMI, KIM_YAMI);
+        // 받침 없는 음절 → 받침만 다른 음절, 받침 있는 음절 → 받침이 다음 음절 초성으로 넘어간 경우
+        assertThat(memberSearchIndex.search("야", 0, 20)).containsExactly(YAMI, CALM, BASEBALL_KING, KIM_YAMI);
+        assertThat(memberSearchIndex.search("얌", 0, 20)).containsExactly(YAMI, CALM, KIM_YAMI);
+    }
+
+    @Test
+    void 영문이_섞인_닉네임은_대소문자를_구분하지_않고_순위대로_찾는다() {
+        loadIndex();
+
+        assertThat(memberSearchIndex.search("YAMMY김", 0, 20)).containsExactly(YAMMY_KIM);
+        assertThat(memberSearchIndex.search("yam", 0, 20)).containsExactly(YAMMY_KIM);
+        assertThat(memberSearchIndex.search("MY김", 0, 20)).containsExactly(YAMMY_KIM);
+        assertThat(memberSearchIndex.search("y기", 0, 20)).containsExactly(YAMMY_KIM);
+    }
+
+    @Test
+    void 정확히_일치하는_닉네임이_가장_먼저_나오고_페이지로_나뉜다() {
+        loadIndex();
+
+        assertThat(memberSearchIndex.search("야미", 0, 20)).containsExactly(YAMI, KIM_YAMI);
+        assertThat(memberSearchIndex.search("야", 0, 2)).containsExactly(YAMI, CALM);
+        assertThat(memberSearchIndex.search("야", 1, 2)).containsExactly(BASEBALL_KING, KIM_YAMI);
+    }
+
+    @Test
+    void 적재_전에는_와일드카드를_이스케이프해서_DB에서_검색한다() {
+        when(memberRepository.searchIdsByNickname(any(), any(Pageable.class))).thenReturn(List.of(PERCENT));
+
+        assertThat(memberSearchIndex.search(" 100%_!\\ ", 0, 20)).containsExactly(PERCENT);
+        verify(memberRepository).searchIdsByNickname(eq("100!%!_!!\\"), eq(PageRequest.of(0, 20)));
+    }
+
+    private void loadIndex() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{YAMI, "야미"});
+        rows.add(new Object[]{BASEBALL_KING, "야구왕"});
+        rows.add(new Object[]{KIM_YAMI, "김야미"});
+        rows.add(new Object[]{CALM, "얌전"});
+        rows.add(new Object[]{YAMMY_KIM, "Yammy김"});
+        rows.add(new Object[]{PERCENT, "100%"});
+        when(memberRepository.findActiveNicknamesAfter(anyLong(), any(Pageable.class))).thenReturn(rows);
+
+        memberSearchIndex.reload();
+    }
+}
@@ -0,0 +1,182 @@
+package com.ssafy.yammy.config;
+
+import com.ssafy.yammy.auth.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * JWT 인증 필터 테스트
+ * - 요청 하나에 토큰 파싱이 한 번만 일어나는지 (이전 구현은 validateToken + getLoginId 로 두 번)
+ * - 조회 요청은 클레임만으로 인증하되, 탈퇴/회원 정보 변경 직후 회원은 회원 정보로 확인하는지
+ * - 탈퇴한 회원의 토큰은 401 로 거절하는지
+ * - 파싱 한 번 / 두 번의 요청당 시간 비교 (./gradlew benchmark)
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final long MEMBER_ID = 7L;
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString("yammy-jwt-filter-test-secret-key-0123456789".getBytes());
+
+    private JwtTokenProvider jwtTokenProvider;
+    private CustomUserDetailsService userDetailsService;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(SECRET_KEY, 900_000L, 1_209_600_000L));
+        userDetailsService = mock(CustomUserDetailsService.class);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        token = jwtTokenProvider.createAccessToken(MEMBER_ID, "yammy", "USER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 조회_요청은_토큰을_한_번만_파싱하고_회원_정보를_조회하지_않는다() throws Exception {
+        MockHttpServletResponse response = doFilter("GET", token);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(authenticatedMemberId()).isEqualTo(MEMBER_ID);
+        verify(jwtTokenProvider, times(1)).parseClaims(token);
+        verify(userDetailsService, never()).loadUserByMemberId(anyLong());
+    }
+
+    @Test
+    void 변경_요청은_토큰을_한_번만_파싱하고_회원_정보로_인증한다() throws Exception {
+        when(userDetailsService.loadUserByMemberId(MEMBER_ID)).thenReturn(new CustomUserDetails(member(null)));
+
+        MockHttpServletResponse response = doFilter("POST", token);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(authenticatedMemberId()).isEqualTo(MEMBER_ID);
+        verify(jwtTokenProvider, times(1)).parseClaims(token);
+        verify(userDetailsService, times(1)).loadUserByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    void 최근에_무효화된_회원은_조회_요청이어도_회원_정보로_확인한다() throws Exception {
+        when(userDetailsService.isClaimsRevoked(MEMBER_ID)).thenReturn(true);
+        when(userDetailsService.loadUserByMemberId(MEMBER_ID)).thenReturn(new CustomUserDetails(member(null)));
+
+        MockHttpServletResponse response = doFilter("GET", token);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        verify(userDetailsService, times(1)).loadUserByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    void 탈퇴한_회원의_토큰은_401_로_거절한다() throws Exception {
+        when(userDetailsService.isClaimsRevoked(MEMBER_ID)).thenReturn(true);
+        when(userDetailsService.loadUserByMemberId(MEMBER_ID))
+                .thenReturn(new CustomUserDetails(member(LocalDateTime.now())));
+
+        MockHttpServletResponse getResponse = doFilter("GET", token);
+        MockHttpServletResponse postResponse = doFilter("POST", token);
+
+        assertThat(getResponse.getStatus()).isEqualTo(401);
+        assertThat(getResponse.getContentAsString()).contains("Account disabled");
+        assertThat(postResponse.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void 위조된_토큰은_401_로_거절한다() throws Exception {
+        MockHttpServletResponse response = doFilter("GET", token.substring(0, token.length() - 2) + "xx");
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("Invalid or expired token");
+    }
+
+    @Test
+    @Tag("benchmark")
+    void 파싱_한_번과_두_번의_요청당_시간_비교() throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET_KEY, 900_000L, 1_209_600_000L);
+        int warmup = 20_000;
+        int iterations = 100_000;
+
+        // 이전 구현: validateToken 으로 한 번, getLoginId 로 다시 한 번
+        Runnable doubleParse = () -> {
+            if (provider.validateToken(token)) {
+                provider.getLoginId(token);
+            }
+        };
+        Runnable singleParse = () -> provider.parseClaims(token).getSubject();
+
+        double doubleMicros = measure(doubleParse, warmup, iterations);
+        double singleMicros = measure(singleParse, warmup, iterations);
+
+        // 필터 전체 (GET, 클레임만으로 인증)
+        JwtAuthenticationFilter realFilter = new JwtAuthenticationFilter(provider, userDetailsService);
+        double filterMicros = measure(() -> {
+            try {
+                realFilter.doFilter(request("GET", token), new MockHttpServletResponse(), new MockFilterChain());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            SecurityContextHolder.clearContext();
+        }, warmup, iterations);
+
+        System.out.printf("[benchmark] validate+getClaims  %6.2f µs/op%n", doubleMicros);
+        System.out.printf("[benchmark] parseClaims         %6.2f µs/op%n", singleMicros);
+        System.out.printf("[benchmark] filter (GET)        %6.2f µs/op%n", filterMicros);
+        assertThat(singleMicros).isLessThan(doubleMicros);
+    }
+
+    private MockHttpServletResponse doFilter(String method, String bearerToken) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, bearerToken), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String method, String bearerToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/posts");
+        request.addHeader("Authorization", "Bearer " + bearerToken);
+        return request;
+    }
+
+    private Long authenticatedMemberId() {
+        return ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getMemberId();
+    }
+
+    private Member member(LocalDateTime deletedAt) {
+        return Member.builder()
+                .memberId(MEMBER_ID)
+                .authority(Member.Authority.USER)
+                .name("야미")
+                .nickname("야미")
+                .id("yammy")
+                .password("-")
+                .email("yammy@test.yammy")
+                .team("두산")
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+    // 워밍업 후 iterations 번 실행한 평균 시간 (µs)
+    private static double measure(Runnable task, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+}
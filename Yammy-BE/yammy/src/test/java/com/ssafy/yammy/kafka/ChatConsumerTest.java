@@ -0,0 +1,306 @@
+package com.ssafy.yammy.kafka;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.firebase.cloud.FirestoreClient;
+import com.ssafy.yammy.chatgames.service.FirebaseChatService;
+import com.ssafy.yammy.config.KafkaConfig;
+import com.ssafy.yammy.kafka.consumer.ChatConsumer;
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import com.ssafy.yammy.useditemchat.dto.UsedItemChatRoomUpdate;
+import com.ssafy.yammy.useditemchat.service.UsedItemFirebaseChatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * 채팅 메시지 배치 소비 테스트
+ * - poll 한 배치가 Firestore WriteBatch 커밋 한 번(500건 단위)으로 저장되는지 확인
+ * - 중고거래 채팅방 unreadCount / 마지막 메시지가 채팅방별로 집계돼 한 번에 반영되는지 확인
+ * - 배치 크기별 초당 처리 메시지 수 (Firestore 는 mock 이라 소비 쪽 오버헤드만 측정, ./gradlew benchmark)
+ */
+class ChatConsumerTest {
+
+    private static final long SELLER_ID = 10L;
+    private static final long BUYER_ID = 20L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private MockedStatic<FirestoreClient> firestoreClient;
+    private Firestore firestore;
+    private WriteBatch writeBatch;
+
+    private UsedItemFirebaseChatService usedItemChatService;
+    private FirebaseChatService cheerupChatService;
+    private KafkaTemplate<String, ChatEvent> kafkaTemplate;
+    private ChatConsumer chatConsumer;
+
+    private int sequence;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        firestore = mock(Firestore.class);
+        writeBatch = mock(WriteBatch.class);
+        when(firestore.batch()).thenReturn(writeBatch);
+        when(writeBatch.commit()).thenReturn(ApiFutures.immediateFuture(List.of()));
+        firestoreClient = mockStatic(FirestoreClient.class);
+        firestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
+
+        usedItemChatService = mock(UsedItemFirebaseChatService.class);
+        cheerupChatService = mock(FirebaseChatService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(ChatEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        chatConsumer = new ChatConsumer(usedItemChatService, cheerupChatService, kafkaTemplate);
+        sequence = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        firestoreClient.close();
+    }
+
+    @Test
+    void 배치는_WriteBatch_커밋_한_번으로_저장된다() throws Exception {
+        List<ChatEvent> events = List.of(
+                usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요"),
+                cheerup("game-1", "두산", "파이팅"),
+                usedItem("room-b", BUYER_ID, "TEXT", "아직 있나요?"),
+                usedItem("room-a", BUYER_ID, "TEXT", "네"),
+                cheerup("game-1", "LG", "가자"));
+
+        chatConsumer.consume(events);
+
+        verify(firestore, times(1)).batch();
+        verify(writeBatch, times(1)).commit();
+        verify(usedItemChatService, times(3)).addUsedItemChatTextMessage(eq(writeBatch), anyString(), anyString(),
+                anyLong(), anyString(), anyString(), any());
+        verify(cheerupChatService, times(2)).addTextMessage(eq(writeBatch), eq("game-1"), anyString(),
+                anyLong(), anyString(), anyString(), any());
+        verify(usedItemChatService, times(1)).applyNewMessages(any());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void 중고거래_채팅방별로_발신자별_메시지_수와_마지막_메시지를_집계한다() throws Exception {
+        List<ChatEvent> events = List.of(
+                usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요"),
+                usedItem("room-b", BUYER_ID, "TEXT", "아직 있나요?"),
+                usedItem("room-a", BUYER_ID, "TEXT", "네"),
+                usedItem("room-a", SELLER_ID, "TEXT", "직거래 가능해요"),
+                usedItem("room-a", SELLER_ID, "IMAGE", "https://example.com/item.jpg"),
+                cheerup("game-1", "두산", "파이팅"));
+
+        chatConsumer.consume(events);
+
+        Map<String, UsedItemChatRoomUpdate> updates = captureRoomUpdates();
+        assertThat(updates).containsOnlyKeys("room-a", "room-b");
+
+        UsedItemChatRoomUpdate roomA = updates.get("room-a");
+        assertThat(roomA.getMessageCount(SELLER_ID)).isEqualTo(3);
+        assertThat(roomA.getMessageCount(BUYER_ID)).isEqualTo(1);
+        assertThat(roomA.getLastMessageContent()).isEqualTo("사진");
+        assertThat(roomA.getLastMessageAt()).isEqualTo(events.get(4).getTimestamp());
+
+        UsedItemChatRoomUpdate roomB = updates.get("room-b");
+        assertThat(roomB.getMessageCount(BUYER_ID)).isEqualTo(1);
+        assertThat(roomB.getMessageCount(SELLER_ID)).isZero();
+        assertThat(roomB.getLastMessageContent()).isEqualTo("아직 있나요?");
+    }
+
+    @Test
+    void 늦게_도착한_예전_메시지는_마지막_메시지가_되지_않는다() throws Exception {
+        ChatEvent latest = usedItem("room-a", SELLER_ID, "TEXT", "최신 메시지");
+        ChatEvent delayed = usedItem("room-a", BUYER_ID, "TEXT", "예전 메시지");
+        delayed.setTimestamp(BASE_TIME.minusMinutes(1));
+
+        chatConsumer.consume(List.of(latest, delayed));
+
+        UsedItemChatRoomUpdate roomA = captureRoomUpdates().get("room-a");
+        assertThat(roomA.getMessageCount(SELLER_ID)).isEqualTo(1);
+        assertThat(roomA.getMessageCount(BUYER_ID)).isEqualTo(1);
+        assertThat(roomA.getLastMessageContent()).isEqualTo("최신 메시지");
+        assertThat(roomA.getLastMessageAt()).isEqualTo(latest.getTimestamp());
+    }
+
+    @Test
+    void 같은_이벤트가_한_배치에_두_번_들어오면_한_번만_센다() throws Exception {
+        ChatEvent original = usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요");
+        ChatEvent replayed = usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요");
+        replayed.setEventId(original.getEventId());
+        replayed.setTimestamp(original.getTimestamp());
+
+        chatConsumer.consume(List.of(original, replayed));
+
+        UsedItemChatRoomUpdate roomA = captureRoomUpdates().get("room-a");
+        assertThat(roomA.getMessageCount(SELLER_ID)).isEqualTo(1);
+        assertThat(roomA.getEventIds()).containsExactly(original.getEventId());
+    }
+
+    @Test
+    void 역직렬화에_실패한_메시지는_앞쪽까지_저장하고_위치를_알려_DLT_로_보낸다() throws Exception {
+        List<ChatEvent> events = new ArrayList<>();
+        events.add(usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요"));
+        events.add(null);
+        events.add(usedItem("room-a", BUYER_ID, "TEXT", "네"));
+
+        assertThatThrownBy(() -> chatConsumer.consume(events))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+                    assertThat(e.getIndex()).isEqualTo(1);
+                    assertThat(e.getCause()).isInstanceOf(DeserializationException.class);
+                });
+
+        // 실패한 레코드 뒤쪽은 에러 핸들러가 다시 넘겨주므로 여기서는 저장하지 않음
+        verify(writeBatch, times(1)).commit();
+        UsedItemChatRoomUpdate roomA = captureRoomUpdates().get("room-a");
+        assertThat(roomA.getMessageCount(SELLER_ID)).isEqualTo(1);
+        assertThat(roomA.getMessageCount(BUYER_ID)).isZero();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void 첫_메시지부터_역직렬화에_실패하면_저장하지_않고_위치를_알린다() {
+        List<ChatEvent> events = new ArrayList<>();
+        events.add(null);
+        events.add(usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요"));
+
+        assertThatThrownBy(() -> chatConsumer.consume(events))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isZero());
+
+        verifyNoInteractions(firestore);
+    }
+
+    @Test
+    void 배치가_500건을_넘으면_500건_단위로_나눠_커밋한다() throws Exception {
+        List<ChatEvent> events = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            events.add(usedItem("room-" + (i % 3), SELLER_ID, "TEXT", "메시지 " + i));
+        }
+
+        chatConsumer.consume(events);
+
+        verify(firestore, times(2)).batch();
+        verify(writeBatch, times(2)).commit();
+        verify(usedItemChatService, times(2)).applyNewMessages(any());
+    }
+
+    @Test
+    void 커밋에_실패한_메시지는_retry_토픽으로_넘긴다() throws Exception {
+        when(writeBatch.commit()).thenReturn(ApiFutures.immediateFailedFuture(new RuntimeException("unavailable")));
+        List<ChatEvent> events = List.of(
+                usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요"),
+                cheerup("game-1", "두산", "파이팅"));
+
+        chatConsumer.consume(events);
+
+        verify(usedItemChatService, never()).applyNewMessages(any());
+        verify(kafkaTemplate).send(KafkaConfig.CHAT_RETRY_TOPIC, "room-a", events.get(0));
+        verify(kafkaTemplate).send(KafkaConfig.CHAT_RETRY_TOPIC, "game-1", events.get(1));
+    }
+
+    @Test
+    void unreadCount_반영에_실패하면_중고거래_메시지만_retry_토픽으로_넘긴다() throws Exception {
+        when(usedItemChatService.applyNewMessages(any())).thenThrow(new RuntimeException("Firestore unavailable"));
+        List<ChatEvent> events = List.of(
+                usedItem("room-a", SELLER_ID, "TEXT", "안녕하세요"),
+                cheerup("game-1", "두산", "파이팅"));
+
+        chatConsumer.consume(events);
+
+        verify(kafkaTemplate).send(KafkaConfig.CHAT_RETRY_TOPIC, "room-a", events.get(0));
+        verify(kafkaTemplate, never()).send(eq(KafkaConfig.CHAT_RETRY_TOPIC), eq("game-1"), any(ChatEvent.class));
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50, 500})
+    void 배치_크기별_초당_처리_메시지_수(int batchSize) throws Exception {
+        int totalMessages = 50_000;
+        List<List<ChatEvent>> batches = batches(batchSize, totalMessages);
+        List<List<ChatEvent>> warmup = batches(batchSize, 5_000);
+
+        for (List<ChatEvent> batch : warmup) {
+            chatConsumer.consume(batch);
+        }
+        long start = System.nanoTime();
+        for (List<ChatEvent> batch : batches) {
+            chatConsumer.consume(batch);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        int batchCount = batches.size();
+        System.out.printf("[benchmark] batchSize=%3d  %,10.0f msg/s  (commits=%d)%n",
+                batchSize, batches.stream().mapToInt(List::size).sum() / seconds, batchCount);
+        verify(writeBatch, times(warmup.size() + batchCount)).commit();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    // 중고거래/응원 채팅을 섞어 batchSize 단위로 나눈 배치 목록
+    private List<List<ChatEvent>> batches(int batchSize, int totalMessages) {
+        List<List<ChatEvent>> batches = new ArrayList<>();
+        List<ChatEvent> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < totalMessages; i++) {
+            batch.add(i % 4 == 0
+                    ? cheerup("game-" + (i % 5), "두산", "파이팅 " + i)
+                    : usedItem("room-" + (i % 20), i % 2 == 0 ? SELLER_ID : BUYER_ID, "TEXT", "메시지 " + i));
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, UsedItemChatRoomUpdate> captureRoomUpdates() throws Exception {
+        ArgumentCaptor<Collection<UsedItemChatRoomUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(usedItemChatService).applyNewMessages(captor.capture());
+        return captor.getValue().stream()
+                .collect(Collectors.toMap(UsedItemChatRoomUpdate::getRoomKey, update -> update));
+    }
+
+    private ChatEvent usedItem(String roomKey, Long senderId, String messageType, String content) {
+        return event("USED_ITEM", roomKey, senderId, null, messageType, content);
+    }
+
+    private ChatEvent cheerup(String roomKey, String team, String content) {
+        return event("CHEERUP", roomKey, 30L, team, "TEXT", content);
+    }
+
+    private ChatEvent event(String chatType, String roomKey, Long senderId, String team, String messageType, String content) {
+        int index = sequence++;
+        return ChatEvent.builder()
+                .eventId("event-" + index)
+                .chatType(chatType)
+                .roomKey(roomKey)
+                .senderId(senderId)
+                .senderNickname("회원" + senderId)
+                .senderTeam(team)
+                .messageType(messageType)
+                .content(content)
+                .timestamp(BASE_TIME.plusSeconds(index))
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.ssafy.yammy.kafka;
+
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import com.ssafy.yammy.kafka.serde.ChatEventCodec;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ChatEvent 바이너리 인코딩 테스트
+ * - 인코딩 → 디코딩 결과가 원본과 같은지 (null 필드, 멀티바이트 문자열, 최대값)
+ * - 잘리거나 손상된 바이트는 다른 예외가 아니라 SerializationException 으로 실패하는지
+ * - 이전 형식(JsonSerializer)과 크기 비교, 인코딩/디코딩 시간 비교 (./gradlew benchmark)
+ */
+class ChatEventCodecTest {
+
+    private static final String TOPIC = "chat-messages";
+
+    @Test
+    void 모든_필드를_그대로_복원한다() {
+        ChatEvent event = fullEvent();
+
+        byte[] encoded = ChatEventCodec.encode(event);
+
+        assertThat(encoded[0]).isEqualTo(ChatEventCodec.MAGIC);
+        assertThat(ChatEventCodec.decode(encoded)).isEqualTo(event);
+    }
+
+    @Test
+    void null_필드는_null_로_복원한다() {
+        ChatEvent empty = new ChatEvent();
+        assertThat(ChatEventCodec.decode(ChatEventCodec.encode(empty))).isEqualTo(empty);
+
+        ChatEvent partial = fullEvent();
+        partial.setEventId(null);
+        partial.setSenderId(null);
+        partial.setSenderTeam(null);
+        partial.setContent(null);
+        partial.setTimestamp(null);
+        assertThat(ChatEventCodec.decode(ChatEventCodec.encode(partial))).isEqualTo(partial);
+
+        ChatEvent emptyStrings = fullEvent();
+        emptyStrings.setSenderNickname("");
+        emptyStrings.setContent("");
+        assertThat(ChatEventCodec.decode(ChatEventCodec.encode(emptyStrings))).isEqualTo(emptyStrings);
+    }
+
+    @Test
+    void 멀티바이트_문자열을_그대로_복원한다() {
+        ChatEvent event = fullEvent();
+        event.setSenderNickname("두산팬123 ⚾");
+        event.setContent("직거래 가능해요? 🙏🏻 가격은 3만원 👍 — ñ, 漢字, 한글 자모 ㄱㅏ");
+
+        ChatEvent decoded = ChatEventCodec.decode(ChatEventCodec.encode(event));
+
+        assertThat(decoded).isEqualTo(event);
+        assertThat(decoded.getContent().getBytes(StandardCharsets.UTF_8))
+                .isEqualTo(event.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 긴_문자열과_최대_최소값을_그대로_복원한다() {
+        ChatEvent event = fullEvent();
+        event.setContent("가".repeat(1_000_000));  // 3MB, 길이 varint 4바이트
+        event.setSenderId(Long.MAX_VALUE);
+        event.setTimestamp(LocalDateTime.MAX);
+        assertThat(ChatEventCodec.decode(ChatEventCodec.encode(event))).isEqualTo(event);
+
+        // 음수는 varint 최대 길이(10바이트)로 기록
+        event.setSenderId(Long.MIN_VALUE);
+        event.setTimestamp(LocalDateTime.MIN);
+        assertThat(ChatEventCodec.decode(ChatEventCodec.encode(event))).isEqualTo(event);
+
+        event.setSenderId(-1L);
+        event.setTimestamp(LocalDateTime.of(1970, 1, 1, 0, 0).minusNanos(1));
+        assertThat(ChatEventCodec.decode(ChatEventCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void 잘린_바이트는_SerializationException_으로_실패한다() {
+        byte[] encoded = ChatEventCodec.encode(fullEvent());
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThatThrownBy(() -> ChatEventCodec.decode(truncated))
+                    .as("length=%d", length)
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Test
+    void 형식이_다르거나_길이가_잘못된_바이트는_SerializationException_으로_실패한다() {
+        byte[] encoded = ChatEventCodec.encode(fullEvent());
+
+        // MAGIC 불일치
+        byte[] wrongMagic = encoded.clone();
+        wrongMagic[0] = '{';
+        assertThatThrownBy(() -> ChatEventCodec.decode(wrongMagic)).isInstanceOf(SerializationException.class);
+
+        // 지원하지 않는 버전
+        byte[] wrongVersion = encoded.clone();
+        wrongVersion[1] = 99;
+        assertThatThrownBy(() -> ChatEventCodec.decode(wrongVersion)).isInstanceOf(SerializationException.class);
+
+        // 남은 바이트보다 긴 문자열 길이 (presence 는 1바이트 이상이므로 eventId 길이는 그 다음 바이트부터)
+        byte[] wrongLength = encoded.clone();
+        int eventIdLengthIndex = 2 + presenceSize(encoded);
+        wrongLength[eventIdLengthIndex] = 0x7F;
+        byte[] shortened = Arrays.copyOf(wrongLength, eventIdLengthIndex + 10);
+        assertThatThrownBy(() -> ChatEventCodec.decode(shortened)).isInstanceOf(SerializationException.class);
+
+        // 끝나지 않는 varint
+        byte[] endlessVarint = new byte[2 + 11];
+        endlessVarint[0] = ChatEventCodec.MAGIC;
+        endlessVarint[1] = 1;
+        Arrays.fill(endlessVarint, 2, endlessVarint.length, (byte) 0xFF);
+        assertThatThrownBy(() -> ChatEventCodec.decode(endlessVarint)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void JSON_보다_작게_인코딩한다() {
+        ChatEvent event = fullEvent();
+        try (JsonSerializer<ChatEvent> jsonSerializer = new JsonSerializer<>()) {
+            byte[] binary = ChatEventCodec.encode(event);
+            byte[] json = jsonSerializer.serialize(TOPIC, event);
+
+            System.out.printf("[benchmark] ChatEvent size  binary=%d bytes  json=%d bytes%n", binary.length, json.length);
+            // 필드 이름이 없고 숫자/시각을 varint 로 기록하므로 JSON 의 절반 남짓
+            assertThat(binary.length).isLessThan(json.length * 7 / 10);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void JSON_보다_빠르게_인코딩_디코딩한다() {
+        ChatEvent event = fullEvent();
+        int warmup = 50_000;
+        int iterations = 200_000;
+        try (JsonSerializer<ChatEvent> jsonSerializer = new JsonSerializer<>();
+             JsonDeserializer<ChatEvent> jsonDeserializer = new JsonDeserializer<>(ChatEvent.class, false)) {
+            byte[] binary = ChatEventCodec.encode(event);
+            byte[] json = jsonSerializer.serialize(TOPIC, event);
+            assertThat(jsonDeserializer.deserialize(TOPIC, json)).isEqualTo(event);
+
+            double binaryEncode = measure(() -> ChatEventCodec.encode(event), warmup, iterations);
+            double binaryDecode = measure(() -> ChatEventCodec.decode(binary), warmup, iterations);
+            double jsonEncode = measure(() -> jsonSerializer.serialize(TOPIC, event), warmup, iterations);
+            double jsonDecode = measure(() -> jsonDeserializer.deserialize(TOPIC, json), warmup, iterations);
+
+            System.out.printf("[benchmark] encode  binary=%.3f µs/op  json=%.3f µs/op%n", binaryEncode, jsonEncode);
+            System.out.printf("[benchmark] decode  binary=%.3f µs/op  json=%.3f µs/op%n", binaryDecode, jsonDecode);
+            assertThat(binaryEncode).isLessThan(jsonEncode);
+            assertThat(binaryDecode).isLessThan(jsonDecode);
+        }
+    }
+
+    // 워밍업 후 iterations 번 실행한 평균 시간 (µs)
+    private static double measure(Runnable task, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+
+    private static int presenceSize(byte[] encoded) {
+        int size = 1;
+        while ((encoded[1 + size] & 0x80) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static ChatEvent fullEvent() {
+        return ChatEvent.builder()
+                .eventId("7f1c2b9e-3d4a-4c5b-9e8f-0a1b2c3d4e5f")
+                .chatType("USED_ITEM")
+                .roomKey("useditem_42_7")
+                .senderId(7L)
+                .senderNickname("야미")
+                .senderTeam("두산")
+                .messageType("TEXT")
+                .content("안녕하세요")
+                .timestamp(LocalDateTime.of(2025, 5, 1, 12, 34, 56, 789_000_000))
+                .build();
+    }
+}
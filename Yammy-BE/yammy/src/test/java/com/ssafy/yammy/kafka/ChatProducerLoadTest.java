@@ -0,0 +1,152 @@
+package com.ssafy.yammy.kafka;
+
+import com.ssafy.yammy.auth.entity.Member;
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.config.CustomUserDetails;
+import com.ssafy.yammy.config.KafkaConfig;
+import com.ssafy.yammy.kafka.dto.ChatEvent;
+import com.ssafy.yammy.kafka.producer.ChatProducer;
+import com.ssafy.yammy.kafka.serde.ChatEventSerializer;
+import com.ssafy.yammy.payment.repository.UsedItemRepository;
+import com.ssafy.yammy.useditemchat.controller.UsedItemChatController;
+import com.ssafy.yammy.useditemchat.dto.SendTextMessageRequest;
+import com.ssafy.yammy.useditemchat.entity.UsedChatRoomStatus;
+import com.ssafy.yammy.useditemchat.entity.UsedItemChatRoom;
+import com.ssafy.yammy.useditemchat.repository.UsedItemChatRoomRepository;
+import com.ssafy.yammy.useditemchat.service.UsedItemChatRoomService;
+import com.ssafy.yammy.useditemchat.service.UsedItemFirebaseChatService;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 채팅 메시지 발행 부하 테스트 (./gradlew benchmark)
+ * - MockProducer 로 브로커 없이 여러 스레드가 sendTextMessage 를 동시에 호출
+ * - 요청 스레드가 기다리는 시간(방 상태 확인 + 직렬화 + 프로듀서 버퍼 적재)의 p50/p99/최대값 측정
+ * - 브로커 왕복은 포함하지 않으므로 애플리케이션 쪽 오버헤드의 하한
+ */
+@Tag("benchmark")
+class ChatProducerLoadTest {
+
+    private static final int THREADS = 8;
+    private static final int MESSAGES_PER_THREAD = 10_000;
+    private static final int WARMUP_PER_THREAD = 2_000;
+    private static final long SELLER_ID = 10L;
+
+    private MockProducer<String, ChatEvent> mockProducer;
+    private UsedItemChatController controller;
+    private CustomUserDetails seller;
+
+    @BeforeEach
+    void setUp() {
+        ChatEventSerializer chatEventSerializer = new ChatEventSerializer();
+        Serializer<ChatEvent> valueSerializer = chatEventSerializer::serialize;
+        // KafkaTemplate 이 전송 후 프로듀서를 닫으므로 닫기는 무시 (실제로는 DefaultKafkaProducerFactory 가 공유 프로듀서를 유지)
+        mockProducer = new MockProducer<>(true, new StringSerializer(), valueSerializer) {
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+        KafkaTemplate<String, ChatEvent> kafkaTemplate =
+                new KafkaTemplate<>(new MockProducerFactory<>((transactional, transactionId) -> mockProducer, null));
+
+        UsedItemChatRoomService usedItemChatRoomService = mock(UsedItemChatRoomService.class);
+        when(usedItemChatRoomService.getUsedItemChatRoom(anyString())).thenAnswer(invocation -> UsedItemChatRoom.builder()
+                .id(1L)
+                .roomKey(invocation.getArgument(0))
+                .sellerId(SELLER_ID)
+                .buyerId(20L)
+                .status(UsedChatRoomStatus.ACTIVE)
+                .sellerDeleted(false)
+                .buyerDeleted(false)
+                .build());
+
+        controller = new UsedItemChatController(usedItemChatRoomService, mock(UsedItemFirebaseChatService.class),
+                mock(UsedItemRepository.class), mock(MemberRepository.class), mock(UsedItemChatRoomRepository.class),
+                new ChatProducer(kafkaTemplate));
+        seller = new CustomUserDetails(Member.builder()
+                .memberId(SELLER_ID)
+                .authority(Member.Authority.USER)
+                .name("야미")
+                .nickname("두산팬")
+                .id("yammy")
+                .password("-")
+                .email("yammy@test.yammy")
+                .team("두산")
+                .build());
+    }
+
+    @Test
+    void 동시_전송_시_요청당_적재_지연_p99() throws Exception {
+        run(WARMUP_PER_THREAD);
+        mockProducer.clear();
+
+        long[] latencies = run(MESSAGES_PER_THREAD);
+        Arrays.sort(latencies);
+
+        System.out.printf("[benchmark] sendTextMessage threads=%d messages=%d  p50=%d µs  p99=%d µs  max=%d µs%n",
+                THREADS, latencies.length, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies[latencies.length - 1]);
+        assertThat(mockProducer.history()).hasSize(THREADS * MESSAGES_PER_THREAD);
+        assertThat(mockProducer.history()).allMatch(record -> KafkaConfig.CHAT_TOPIC.equals(record.topic()));
+        // 브로커 없이 버퍼에 넣기까지는 1ms 를 넘지 않아야 함 (max.block.ms 로 막히는 경우와 구분)
+        assertThat(percentile(latencies, 0.99)).isLessThan(1_000);
+    }
+
+    // 스레드마다 messagesPerThread 건 전송하고 요청별 소요 시간(µs)을 모아 반환
+    private long[] run(int messagesPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[messagesPerThread];
+                    for (int i = 0; i < messagesPerThread; i++) {
+                        SendTextMessageRequest request = new SendTextMessageRequest("직거래 가능한가요? " + i);
+                        long startedAt = System.nanoTime();
+                        controller.sendTextMessage("useditem_" + (i % 50) + "_" + thread, seller, request);
+                        latencies[i] = (System.nanoTime() - startedAt) / 1_000;
+                    }
+                    return latencies;
+                }));
+            }
+
+            long[] all = new long[THREADS * messagesPerThread];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(sorted.length * percentile);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+}
@@ -0,0 +1,204 @@
+package com.ssafy.yammy.post;
+
+import com.ssafy.yammy.auth.entity.Member;
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.comment.dto.CommentRequest;
+import com.ssafy.yammy.comment.repository.CommentRepository;
+import com.ssafy.yammy.comment.service.CommentService;
+import com.ssafy.yammy.post.entity.Post;
+import com.ssafy.yammy.post.repository.PostLikeRepository;
+import com.ssafy.yammy.post.repository.PostRepository;
+import com.ssafy.yammy.post.service.PostLikeCounter;
+import com.ssafy.yammy.post.service.PostLikeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 카운터 동시성 테스트
+ * - 여러 요청이 동시에 좋아요/댓글 수를 바꿔도 최종 카운트가 정확히 맞는지 확인
+ * - 좋아요/댓글 작성·삭제 한 번에 실행되는 SQL 수 확인 (게시글 엔티티를 읽고 다시 저장하지 않는지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostCounterConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 100;
+    private static final long TEST_MEMBER_ID_BASE = 9_000_000_000L;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostLikeCounter postLikeCounter;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long postId;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .memberId(TEST_MEMBER_ID_BASE)
+                .caption("concurrency-test")
+                .build()).getId();
+
+        // 댓글 작성자 (닉네임/로그인 ID/이메일은 unique 이므로 실행마다 다르게)
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        memberId = memberRepository.save(Member.builder()
+                .authority(Member.Authority.USER)
+                .name("동시성테스트")
+                .nickname("cc-" + suffix)
+                .id("cc-" + suffix)
+                .password("-")
+                .email("cc-" + suffix + "@test.yammy")
+                .team("두산")
+                .build()).getMemberId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            postLikeRepository.deleteByPostId(postId);
+            commentRepository.deleteByPostId(postId);
+            postRepository.deleteById(postId);
+        });
+        memberRepository.deleteById(memberId);
+    }
+
+    @Test
+    void 서로_다른_회원의_동시_좋아요는_모두_반영된다() throws Exception {
+        runConcurrently(i -> postLikeService.toggleLike(postId, TEST_MEMBER_ID_BASE + i + 1));
+        postLikeCounter.flush();
+
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(REQUESTS);
+        assertThat(postLikeCounter.getLikeCount(postId)).isEqualTo(REQUESTS);
+    }
+
+    @Test
+    void 같은_회원의_동시_좋아요는_한_번만_반영된다() throws Exception {
+        // 같은 회원의 토글이 섞이므로 좋아요/취소 중 어느 쪽으로 끝날지는 모르지만, 예외 없이 좋아요 행 수와 카운트가 일치해야 함
+        runConcurrently(i -> postLikeService.toggleLike(postId, TEST_MEMBER_ID_BASE + 1));
+        postLikeCounter.flush();
+
+        long liked = postLikeRepository.countByPostId(postId);
+        assertThat(liked).isLessThanOrEqualTo(1);
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo((int) liked);
+    }
+
+    @Test
+    void 동시_댓글_작성과_삭제는_모두_반영된다() throws Exception {
+        List<Long> commentIds = new CopyOnWriteArrayList<>();
+        runConcurrently(i -> commentIds.add(commentService.createComment(postId, memberId,
+                new CommentRequest("댓글 " + i, null)).getId()));
+
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(REQUESTS);
+
+        runConcurrently(i -> commentService.deleteComment(commentIds.get(i), memberId));
+
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isZero();
+    }
+
+    @Test
+    void 좋아요_한_번은_SQL_세_번으로_처리된다() {
+        Statistics statistics = statistics();
+
+        // 게시글 존재 확인 + 좋아요 시각 조회 + INSERT IGNORE (좋아요 수는 WriteBehindCounter 가 모아서 반영)
+        statistics.clear();
+        postLikeService.toggleLike(postId, TEST_MEMBER_ID_BASE + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        // 게시글 존재 확인 + 좋아요 시각 조회 + DELETE
+        statistics.clear();
+        postLikeService.toggleLike(postId, TEST_MEMBER_ID_BASE + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        assertPostNeverLoaded(statistics);
+    }
+
+    @Test
+    void 댓글_작성과_삭제는_게시글을_읽지_않고_UPDATE_한_번으로_댓글_수를_바꾼다() {
+        Statistics statistics = statistics();
+
+        // 게시글 존재 확인 + 회원 조회(+ 포인트 OneToOne) + INSERT + 경로 UPDATE + 댓글 수 UPDATE
+        statistics.clear();
+        Long commentId = commentService.createComment(postId, memberId, new CommentRequest("댓글", null)).getId();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertPostNeverLoaded(statistics);
+
+        // 댓글 조회 + 좋아요 범위 DELETE + 댓글 범위 DELETE + 댓글 수 UPDATE
+        statistics.clear();
+        commentService.deleteComment(commentId, memberId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertPostNeverLoaded(statistics);
+    }
+
+    private Statistics statistics() {
+        // 다른 스레드에서 모아둔 좋아요 수가 측정 중에 반영되지 않도록 미리 비워둠
+        postLikeCounter.flush();
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 카운터 변경은 벌크 UPDATE 로만 하므로 게시글 엔티티를 읽거나 dirty checking 으로 저장하지 않아야 함
+    private void assertPostNeverLoaded(Statistics statistics) {
+        assertThat(statistics.getEntityStatistics(Post.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Post.class.getName()).getUpdateCount()).isZero();
+    }
+
+    // REQUESTS 개의 요청을 THREADS 개 스레드에서 동시에 출발시키고, 하나라도 실패하면 예외 전달
+    private void runConcurrently(IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
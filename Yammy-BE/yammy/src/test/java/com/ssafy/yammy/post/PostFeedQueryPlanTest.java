@@ -0,0 +1,276 @@
+package com.ssafy.yammy.post;
+
+import com.ssafy.yammy.comment.entity.Comment;
+import com.ssafy.yammy.comment.repository.CommentRepository;
+import com.ssafy.yammy.post.repository.PostQueryRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 쿼리 실행 계획 회귀 테스트
+ * - PostQueryRepository / CommentRepository 를 실제로 호출해 DataSource 프록시로 가로챈 SQL 과 바인딩 값을 그대로 EXPLAIN
+ * - 행이 적으면 옵티마이저가 일부러 풀 스캔을 고르므로, 게시글/이미지/댓글을 충분히 넣고 통계를 갱신한 뒤 검사
+ */
+@SpringBootTest
+class PostFeedQueryPlanTest {
+
+    private static final long SEED_MEMBER_BASE = 9_100_000_000L;
+    private static final int SEED_MEMBERS = 100;
+    private static final int SEED_POSTS = 2_000;
+    private static final int SEED_IMAGES_PER_POST = 3;
+    private static final int SEED_COMMENT_POSTS = 20;
+    private static final int SEED_ROOTS_PER_POST = 100;
+    private static final int INSERT_CHUNK = 500;
+    private static final String[] TEAMS = {"DOOSAN", "LG", "KIA", "SSG", "NC", "KT", "LOTTE", "SAMSUNG", "HANWHA", "KIWOOM"};
+    private static final int PAGE = 21;
+
+    private static List<Long> seededPostIds;
+
+    @Autowired
+    private PostQueryRepository postQueryRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        cleanUp(jdbcTemplate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 0; i < SEED_POSTS; i++) {
+            posts.add(new Object[]{SEED_MEMBER_BASE + i % SEED_MEMBERS, TEAMS[i % TEAMS.length], "plan-test", now, now});
+        }
+        insertRows(jdbcTemplate, "post (member_id, team, caption, like_count, comment_count, created_at, updated_at)",
+                "(?, ?, ?, 0, 0, ?, ?)", posts);
+        seededPostIds = jdbcTemplate.queryForList(
+                "SELECT id FROM post WHERE member_id BETWEEN ? AND ? ORDER BY id", Long.class,
+                SEED_MEMBER_BASE, SEED_MEMBER_BASE + SEED_MEMBERS - 1);
+
+        List<Object[]> images = new ArrayList<>();
+        for (Long postId : seededPostIds) {
+            for (int order = 1; order <= SEED_IMAGES_PER_POST; order++) {
+                images.add(new Object[]{postId, "https://example.com/plan/" + postId + "/" + order + ".jpg", order, now});
+            }
+        }
+        insertRows(jdbcTemplate, "post_image (post_id, image_url, image_order, created_at)", "(?, ?, ?, ?)", images);
+
+        // 게시글마다 최상위 댓글 + 최상위 댓글마다 답글 하나, 경로는 ID 발급 후 채움
+        List<Long> commentPostIds = seededPostIds.subList(0, SEED_COMMENT_POSTS);
+        List<Object[]> roots = new ArrayList<>();
+        for (Long postId : commentPostIds) {
+            for (int i = 0; i < SEED_ROOTS_PER_POST; i++) {
+                roots.add(new Object[]{postId, SEED_MEMBER_BASE, "plan-test", now, now});
+            }
+        }
+        insertRows(jdbcTemplate, "comment (post_id, member_id, depth, content, like_count, created_at, updated_at)",
+                "(?, ?, 0, ?, 0, ?, ?)", roots);
+        jdbcTemplate.update("UPDATE comment SET path = LPAD(id, " + Comment.PATH_SEGMENT_LENGTH + ", '0') " +
+                "WHERE member_id = ? AND parent_id IS NULL", SEED_MEMBER_BASE);
+        jdbcTemplate.update("INSERT INTO comment (post_id, member_id, parent_id, depth, content, like_count, created_at, updated_at) " +
+                "SELECT post_id, member_id, id, 1, content, 0, created_at, updated_at FROM comment " +
+                "WHERE member_id = ? AND parent_id IS NULL", SEED_MEMBER_BASE);
+        jdbcTemplate.update("UPDATE comment c JOIN comment p ON c.parent_id = p.id " +
+                "SET c.path = CONCAT(p.path, '" + Comment.PATH_SEPARATOR + "', LPAD(c.id, " + Comment.PATH_SEGMENT_LENGTH + ", '0')) " +
+                "WHERE c.member_id = ? AND c.path IS NULL", SEED_MEMBER_BASE);
+
+        jdbcTemplate.execute("ANALYZE TABLE post, post_image, comment");
+    }
+
+    @AfterAll
+    static void tearDown(@Autowired JdbcTemplate jdbcTemplate) {
+        cleanUp(jdbcTemplate);
+    }
+
+    @Test
+    void 전체_피드는_기본키_범위_검색을_사용한다() {
+        assertIndexUsed("PRIMARY", () -> postQueryRepository.findAllSummaries(null, null, PAGE));
+        assertIndexUsed("PRIMARY", () -> postQueryRepository.findAllSummaries(null, middlePostId(), PAGE));
+    }
+
+    @Test
+    void 팀_피드는_team_id_인덱스를_사용한다() {
+        assertIndexUsed("idx_post_team_id", () -> postQueryRepository.findAllSummaries("DOOSAN", null, PAGE));
+        assertIndexUsed("idx_post_team_id", () -> postQueryRepository.findAllSummaries("DOOSAN", middlePostId(), PAGE));
+    }
+
+    @Test
+    void 사용자_피드와_타임라인은_member_id_id_인덱스를_사용한다() {
+        assertIndexUsed("idx_post_member_id_id",
+                () -> postQueryRepository.findSummariesByMemberId(SEED_MEMBER_BASE, middlePostId(), PAGE));
+
+        List<Long> followings = List.of(SEED_MEMBER_BASE, SEED_MEMBER_BASE + 1, SEED_MEMBER_BASE + 2);
+        assertIndexUsed("idx_post_member_id_id", () -> postQueryRepository.findIdsByMemberIds(followings, null, PAGE));
+        assertIndexUsed("idx_post_member_id_id", () -> postQueryRepository.findIdsByMemberIds(followings, middlePostId(), PAGE));
+    }
+
+    @Test
+    void 게시글_카드_이미지는_post_id_image_order_인덱스를_사용한다() {
+        assertIndexUsed("idx_post_image_post_id_order",
+                () -> postQueryRepository.findPostCards(seededPostIds.subList(0, PAGE), SEED_IMAGES_PER_POST));
+    }
+
+    @Test
+    void 댓글_목록과_답글은_post_id_인덱스를_사용한다() {
+        Long postId = seededPostIds.get(0);
+        Long middleRootId = jdbcTemplate.queryForObject(
+                "SELECT id FROM comment WHERE post_id = ? AND parent_id IS NULL ORDER BY id LIMIT 1 OFFSET ?",
+                Long.class, postId, SEED_ROOTS_PER_POST / 2);
+
+        assertIndexUsed("idx_comment_post_id_parent_id_id",
+                () -> commentRepository.findRootsByPostIdWithCursor(postId, null, PageRequest.of(0, PAGE)));
+        assertIndexUsed("idx_comment_post_id_parent_id_id",
+                () -> commentRepository.findRootsByPostIdWithCursor(postId, middleRootId, PageRequest.of(0, PAGE)));
+
+        String fromPath = Comment.pathSegment(middleRootId);
+        String toPath = Comment.pathSegment(middleRootId + PAGE);
+        assertIndexUsed("idx_comment_post_id_path",
+                () -> commentRepository.findFirstRepliesInRange(postId, fromPath, toPath, 3));
+        assertIndexUsed("idx_comment_post_id_path",
+                () -> commentRepository.findRepliesAfter(postId, fromPath, Comment.subtreeUpperBound(fromPath), PageRequest.of(0, PAGE)));
+    }
+
+    // 호출 중 실행된 SELECT 한 건을 같은 바인딩 값으로 EXPLAIN 해서 풀 스캔이 없고 기대한 인덱스를 쓰는지 확인
+    private void assertIndexUsed(String expectedKey, Runnable query) {
+        List<RecordingDataSource.Statement> statements = RecordingDataSource.record(query);
+        assertThat(statements).as("실행된 SQL").hasSize(1);
+        RecordingDataSource.Statement statement = statements.get(0);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.args());
+        String description = statement.sql() + System.lineSeparator() + plan;
+
+        // 파생 테이블(<derivedN>) 은 서브쿼리 결과를 읽는 것이므로 제외
+        assertThat(plan)
+                .filteredOn(row -> !String.valueOf(row.get("table")).startsWith("<derived"))
+                .as(description)
+                .noneMatch(row -> "ALL".equals(row.get("type")));
+        assertThat(plan).as(description).anyMatch(row -> expectedKey.equals(row.get("key")));
+    }
+
+    private Long middlePostId() {
+        return seededPostIds.get(SEED_POSTS / 2);
+    }
+
+    private static void insertRows(JdbcTemplate jdbcTemplate, String into, String placeholder, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK, rows.size()));
+            String sql = "INSERT INTO " + into + " VALUES " + String.join(", ", Collections.nCopies(chunk.size(), placeholder));
+            jdbcTemplate.update(sql, chunk.stream().flatMap(Arrays::stream).toArray());
+        }
+    }
+
+    private static void cleanUp(JdbcTemplate jdbcTemplate) {
+        long to = SEED_MEMBER_BASE + SEED_MEMBERS - 1;
+        jdbcTemplate.update("DELETE FROM comment WHERE member_id = ?", SEED_MEMBER_BASE);
+        jdbcTemplate.update("DELETE pi FROM post_image pi JOIN post p ON p.id = pi.post_id " +
+                "WHERE p.member_id BETWEEN ? AND ?", SEED_MEMBER_BASE, to);
+        jdbcTemplate.update("DELETE FROM post WHERE member_id BETWEEN ? AND ?", SEED_MEMBER_BASE, to);
+    }
+
+    /**
+     * 애플리케이션 DataSource 를 감싸 기록 중에 준비된 PreparedStatement 의 SQL 과 바인딩 값을 모으는 프록시
+     * - Hibernate / QueryDSL / 네이티브 쿼리가 실제로 보내는 SQL 을 그대로 얻기 위함
+     */
+    @TestConfiguration
+    static class RecordingDataSource {
+
+        record Statement(String sql, Object[] args) {
+        }
+
+        private static final List<Statement> statements = new CopyOnWriteArrayList<>();
+        private static volatile boolean recording;
+
+        static List<Statement> record(Runnable query) {
+            statements.clear();
+            recording = true;
+            try {
+                query.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? proxy(DataSource.class, dataSource, RecordingDataSource::onDataSource)
+                            : bean;
+                }
+            };
+        }
+
+        private static Object onDataSource(Object target, Method method, Object[] args) throws Throwable {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection
+                    ? proxy(Connection.class, connection, RecordingDataSource::onConnection)
+                    : result;
+        }
+
+        private static Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+            Object result = invoke(target, method, args);
+            if (recording && method.getName().equals("prepareStatement") && result instanceof PreparedStatement prepared) {
+                String sql = (String) args[0];
+                SortedMap<Integer, Object> bindings = new TreeMap<>();
+                return proxy(PreparedStatement.class, prepared, (statement, statementMethod, statementArgs) -> {
+                    String name = statementMethod.getName();
+                    if (name.startsWith("set") && statementArgs != null && statementArgs.length >= 2
+                            && statementArgs[0] instanceof Integer index) {
+                        bindings.put(index, name.equals("setNull") ? null : statementArgs[1]);
+                    } else if (name.startsWith("execute")) {
+                        statements.add(new Statement(sql, bindings.values().toArray()));
+                    }
+                    return invoke(statement, statementMethod, statementArgs);
+                });
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Handler handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @FunctionalInterface
+        private interface Handler {
+            Object handle(Object target, Method method, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.ssafy.yammy.post;
+
+import com.ssafy.yammy.auth.entity.Member;
+import com.ssafy.yammy.auth.repository.MemberRepository;
+import com.ssafy.yammy.post.dto.PostCreateRequest;
+import com.ssafy.yammy.post.dto.PostUpdateRequest;
+import com.ssafy.yammy.post.entity.Post;
+import com.ssafy.yammy.post.entity.PostImage;
+import com.ssafy.yammy.post.repository.PostImageRepository;
+import com.ssafy.yammy.post.repository.PostRepository;
+import com.ssafy.yammy.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 이미지 저장 성능 측정 (./gradlew benchmark)
+ * - 이미지 1/3/10장 기준 createPost / updatePost 한 번에 걸리는 시간
+ * - multi-row INSERT 한 번(insertAll)과 행마다 INSERT(saveAll, IDENTITY 라 JDBC 배치 불가)의 왕복 비용 비교
+ * - createPost 는 이미지 3장까지만 받으므로 10장은 updatePost 와 저장소 단위로만 측정
+ */
+@Tag("benchmark")
+@SpringBootTest
+class PostImageInsertBenchmarkTest {
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long memberId;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        memberId = memberRepository.save(Member.builder()
+                .authority(Member.Authority.USER)
+                .name("이미지벤치")
+                .nickname("ib-" + suffix)
+                .id("ib-" + suffix)
+                .password("-")
+                .email("ib-" + suffix + "@test.yammy")
+                .team("두산")
+                .build()).getMemberId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long postId : postIds) {
+            postService.deletePost(postId, memberId);
+        }
+        memberRepository.deleteById(memberId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void createPost_한_번에_걸리는_시간(int imageCount) {
+        List<String> imageUrls = imageUrls(imageCount);
+
+        double micros = measure(() -> postIds.add(postService.createPost(memberId,
+                new PostCreateRequest("benchmark", imageUrls)).getId()));
+
+        report("createPost", imageCount, micros);
+        Long lastPostId = postIds.get(postIds.size() - 1);
+        assertThat(postImageRepository.findByPostIdOrderByImageOrder(lastPostId)).hasSize(imageCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10})
+    void updatePost_이미지_교체_한_번에_걸리는_시간(int imageCount) {
+        Long postId = postService.createPost(memberId, new PostCreateRequest("benchmark", imageUrls(1))).getId();
+        postIds.add(postId);
+        List<String> imageUrls = imageUrls(imageCount);
+
+        double micros = measure(() -> postService.updatePost(postId, memberId, new PostUpdateRequest(null, imageUrls)));
+
+        report("updatePost", imageCount, micros);
+        assertThat(postImageRepository.findByPostIdOrderByImageOrder(postId)).hasSize(imageCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10})
+    void multi_row_INSERT_는_행마다_INSERT_보다_빠르다(int imageCount) {
+        Long postId = postRepository.save(Post.builder()
+                .memberId(memberId)
+                .caption("benchmark")
+                .build()).getId();
+        postIds.add(postId);
+
+        double batched = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            postImageRepository.deleteByPostId(postId);
+            postImageRepository.insertAll(postImages(postId, imageCount));
+        }));
+        double perRow = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            postImageRepository.deleteByPostId(postId);
+            postImageRepository.saveAll(postImages(postId, imageCount));
+        }));
+
+        report("insertAll", imageCount, batched);
+        report("saveAll", imageCount, perRow);
+        // 1장은 어느 쪽이든 INSERT 한 번이므로 비교하지 않음
+        if (imageCount >= 3) {
+            assertThat(batched).isLessThan(perRow);
+        }
+    }
+
+    // 워밍업 후 ITERATIONS 번 실행한 평균 시간 (µs)
+    private double measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private void report(String operation, int imageCount, double micros) {
+        System.out.printf("[benchmark] %-10s images=%2d  %8.1f µs/op%n", operation, imageCount, micros);
+    }
+
+    private List<String> imageUrls(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(order -> "https://example.com/benchmark/" + order + ".jpg")
+                .toList();
+    }
+
+    private List<PostImage> postImages(Long postId, int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(order -> PostImage.builder()
+                        .postId(postId)
+                        .imageUrl("https://example.com/benchmark/" + order + ".jpg")
+                        .imageOrder(order)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ssafy.yammy.useditemchat;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.firebase.cloud.FirestoreClient;
+import com.ssafy.yammy.useditemchat.dto.UsedItemChatRoomUpdate;
+import com.ssafy.yammy.useditemchat.entity.UsedItemChatRoom;
+import com.ssafy.yammy.useditemchat.repository.ChatProcessedEventRepository;
+import com.ssafy.yammy.useditemchat.repository.UsedItemChatRoomRepository;
+import com.ssafy.yammy.useditemchat.service.UsedItemFirebaseChatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * 중고거래 채팅방 unreadCount 반영 테스트
+ * - MySQL 반영 후 Firestore 커밋이 실패하면 트랜잭션이 롤백되는지 (Firestore 는 체크 예외로 실패)
+ * - 실제 트랜잭션 인터셉터로 감싸고 트랜잭션 매니저는 mock 으로 두어 commit/rollback 호출을 확인
+ */
+class UsedItemFirebaseChatServiceTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final long SELLER_ID = 10L;
+    private static final long BUYER_ID = 20L;
+
+    private MockedStatic<FirestoreClient> firestoreClient;
+    private WriteBatch writeBatch;
+
+    private UsedItemChatRoomRepository usedItemChatRoomRepository;
+    private ChatProcessedEventRepository chatProcessedEventRepository;
+    private PlatformTransactionManager transactionManager;
+    private TransactionStatus transactionStatus;
+    private UsedItemFirebaseChatService service;
+
+    @BeforeEach
+    void setUp() {
+        Firestore firestore = mock(Firestore.class);
+        CollectionReference collection = mock(CollectionReference.class);
+        writeBatch = mock(WriteBatch.class);
+        when(firestore.batch()).thenReturn(writeBatch);
+        when(firestore.collection(anyString())).thenReturn(collection);
+        when(collection.document(anyString())).thenReturn(mock(DocumentReference.class));
+        firestoreClient = mockStatic(FirestoreClient.class);
+        firestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
+
+        usedItemChatRoomRepository = mock(UsedItemChatRoomRepository.class);
+        chatProcessedEventRepository = mock(ChatProcessedEventRepository.class);
+        when(usedItemChatRoomRepository.findByRoomKeyIn(any())).thenReturn(List.of(UsedItemChatRoom.builder()
+                .id(ROOM_ID)
+                .roomKey("room-a")
+                .sellerId(SELLER_ID)
+                .buyerId(BUYER_ID)
+                .build()));
+        when(usedItemChatRoomRepository.updateLastMessage(anyLong(), any(), any())).thenReturn(1);
+
+        transactionManager = mock(PlatformTransactionManager.class);
+        transactionStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        ProxyFactory proxyFactory = new ProxyFactory(
+                new UsedItemFirebaseChatService(usedItemChatRoomRepository, chatProcessedEventRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        service = (UsedItemFirebaseChatService) proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        firestoreClient.close();
+    }
+
+    @Test
+    void MySQL_반영_후_Firestore_커밋이_실패하면_롤백한다() {
+        when(writeBatch.commit()).thenReturn(ApiFutures.immediateFailedFuture(new RuntimeException("unavailable")));
+
+        assertThatThrownBy(() -> service.applyNewMessages(List.of(update())))
+                .isInstanceOf(ExecutionException.class);
+
+        verify(chatProcessedEventRepository).insertAll(any());
+        verify(usedItemChatRoomRepository).addUnreadCounts(ROOM_ID, 0, 1);
+        verify(transactionManager).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void Firestore_커밋이_성공하면_커밋한다() throws Exception {
+        when(writeBatch.commit()).thenReturn(ApiFutures.immediateFuture(List.of()));
+
+        service.applyNewMessages(List.of(update()));
+
+        verify(transactionManager).commit(transactionStatus);
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    // 판매자가 보낸 메시지 한 건 → 구매자 unreadCount +1
+    private UsedItemChatRoomUpdate update() {
+        UsedItemChatRoomUpdate update = new UsedItemChatRoomUpdate("room-a");
+        update.addMessage("event-1", SELLER_ID, "안녕하세요", LocalDateTime.of(2025, 5, 1, 12, 0));
+        return update;
+    }
+}
@@ -149,18 +149,20 @@ export const unfollowUser = async (followingId) => {
 };
 
 /**
- * 팔로워 목록 조회
+ * 팔로워 목록 조회 (커서 기반)
  */
-export const getFollowers = async (memberId, page = 0, size = 20) => {
-  const response = await apiClient.get(`/follows/followers/${memberId}?page=${page}&size=${size}`);
+export const getFollowers = async (memberId, cursor = null, size = 20) => {
+  const params = cursor ? `?cursor=${cursor}&size=${size}` : `?size=${size}`;
+  const response = await apiClient.get(`/follows/followers/${memberId}${params}`);
   return response.data;
 };
 
 /**
- * 팔로잉 목록 조회
+ * 팔로잉 목록 조회 (커서 기반)
  */
-export const getFollowing = async (memberId, page = 0, size = 20) => {
-  const response = await apiClient.get(`/follows/following/${memberId}?page=${page}&size=${size}`);
+export const getFollowing = async (memberId, cursor = null, size = 20) => {
+  const params = cursor ? `?cursor=${cursor}&size=${size}` : `?size=${size}`;
+  const response = await apiClient.get(`/follows/following/${memberId}${params}`);
   return response.data;
 };
 
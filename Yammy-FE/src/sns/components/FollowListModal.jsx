@@ -30,10 +30,10 @@ const FollowListModal = ({ isOpen, onClose, userId, initialTab = 'followers' })
         try {
             if (activeTab === 'followers') {
                 const response = await getFollowers(userId);
-                setFollowers(response.content || []);
+                setFollowers(response.follows || []);
             } else {
                 const response = await getFollowing(userId);
-                setFollowing(response.content || []);
+                setFollowing(response.follows || []);
             }
         } catch (error) {
             console.error('팔로우 목록 로드 실패:', error);